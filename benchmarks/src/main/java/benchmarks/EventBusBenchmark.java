@@ -0,0 +1,62 @@
+package benchmarks;
+
+import enums.ShipType;
+import enums.ShotResult;
+import events.EventBus;
+import events.EventHandler;
+import events.GameEvent;
+import events.Subscription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventBusBenchmark {
+    private static final int BATCH = 1024;
+
+    private EventBus bus;
+    private Subscription subscription;
+    private int[] events;
+
+    @Setup
+    public void setup() {
+        bus = new EventBus();
+        subscription = bus.subscribe();
+        events = new int[BATCH];
+        ShotResult[] results = {ShotResult.MISS, ShotResult.HIT, ShotResult.MISS, ShotResult.SUNK};
+        for (int i = 0; i < BATCH; i++) {
+            events[i] = GameEvent.shot(1 + (i & 1), i % 100, results[i & 3], ShipType.DESTROYER);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long publish() {
+        long sequence = 0;
+        for (int event : events) sequence = bus.publish(event);
+        return sequence;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int publishAndPoll(Blackhole bh) {
+        for (int event : events) bus.publish(event);
+        EventHandler handler = (sequence, event) -> bh.consume(event);
+        return subscription.poll(handler);
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import engine.FleetGenerator;
+import engine.GameEngine;
+import enums.Direction;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+import java.util.Random;
+
+public final class Fixtures {
+    public static final String PACKED = "packed";
+    public static final String SPREAD = "spread";
+    public static final String RANDOM = "random";
+
+    private Fixtures() {
+    }
+
+    public static GameEngine newGame(String fleet, long seed) {
+        GameEngine engine = new GameEngine();
+        engine.getPlayer(1).setNickname("Player 1");
+        engine.getPlayer(2).setNickname("Player 2");
+        placeFleet(engine, engine.getPlayer(1), fleet, seed);
+        placeFleet(engine, engine.getPlayer(2), fleet, seed + 1);
+        return engine;
+    }
+
+    public static void placeFleet(GameEngine engine, Player player, String fleet, long seed) {
+        switch (fleet) {
+            case PACKED -> {
+                place(engine, player, new Ship(1, 1, Direction.EAST, ShipType.AIRCRAFT_CARRIER));
+                place(engine, player, new Ship(1, 2, Direction.EAST, ShipType.BATTLESHIP));
+                place(engine, player, new Ship(1, 3, Direction.EAST, ShipType.DESTROYER));
+                place(engine, player, new Ship(1, 4, Direction.EAST, ShipType.SUBMARINE));
+                place(engine, player, new Ship(1, 5, Direction.EAST, ShipType.PATROL_BOAT));
+            }
+            case SPREAD -> {
+                place(engine, player, new Ship(1, 1, Direction.SOUTH, ShipType.AIRCRAFT_CARRIER));
+                place(engine, player, new Ship(10, 10, Direction.NORTH, ShipType.BATTLESHIP));
+                place(engine, player, new Ship(4, 5, Direction.EAST, ShipType.DESTROYER));
+                place(engine, player, new Ship(8, 2, Direction.WEST, ShipType.SUBMARINE));
+                place(engine, player, new Ship(5, 9, Direction.SOUTH, ShipType.PATROL_BOAT));
+            }
+            case RANDOM -> new FleetGenerator(new Random(seed)).placeFleet(player);
+            default -> throw new IllegalArgumentException("Unknown fleet " + fleet);
+        }
+    }
+
+    public static int[] shotOrder(long seed) {
+        int[] cells = new int[Map.CELLS];
+        for (int i = 0; i < cells.length; i++) cells[i] = i;
+        Random random = new Random(seed);
+        for (int i = cells.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = cells[i];
+            cells[i] = cells[j];
+            cells[j] = tmp;
+        }
+        return cells;
+    }
+
+    public static void fill(GameEngine engine, int percent, long seed) {
+        int[] order = shotOrder(seed);
+        int shots = Map.CELLS * percent / 100;
+        for (int i = 0; i < shots; i++) {
+            for (int playerNumber = 1; playerNumber <= 2; playerNumber++) {
+                if (engine.getTurn() != playerNumber) engine.changeTurn();
+                int cell = order[i];
+                if (engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1) == ShotResult.WIN) return;
+            }
+        }
+        if (engine.getTurn() != 1) engine.changeTurn();
+    }
+
+    private static void place(GameEngine engine, Player player, Ship ship) {
+        if (!engine.placeShip(player, ship)) throw new IllegalStateException("Illegal fixture ship " + ship.getType());
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import enums.ShotResult;
+import large.LargeBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LargeBoardBenchmark {
+    private static final int[] LENGTHS = {5, 4, 3, 3, 2};
+
+    @Param({"100", "10000"})
+    public int size;
+
+    @Param({"5", "500"})
+    public int ships;
+
+    private LargeBoard board;
+    private SplittableRandom random;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        random = new SplittableRandom(42);
+        board = new LargeBoard(size, size);
+        board.placeRandomFleet(ships, LENGTHS, random);
+    }
+
+    @Benchmark
+    public int shipAt() {
+        return board.getShipAt(random.nextInt(size) + 1, random.nextInt(size) + 1);
+    }
+
+    @Benchmark
+    public ShotResult receiveShot() {
+        return board.receiveShot(random.nextInt(size) + 1, random.nextInt(size) + 1);
+    }
+}
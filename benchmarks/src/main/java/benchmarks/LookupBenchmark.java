@@ -0,0 +1,90 @@
+package benchmarks;
+
+import engine.FleetGenerator;
+import engine.GameEngine;
+import enums.Direction;
+import enums.ShipType;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+    private static final ShipType[] SHIP_TYPES = {ShipType.AIRCRAFT_CARRIER, ShipType.BATTLESHIP,
+            ShipType.DESTROYER, ShipType.SUBMARINE, ShipType.PATROL_BOAT};
+
+    @Param({Fixtures.PACKED, Fixtures.SPREAD, Fixtures.RANDOM})
+    public String fleet;
+
+    private GameEngine engine;
+    private Player player;
+    private Ship[] candidates;
+    private final FleetGenerator fleetGenerator = new FleetGenerator(new SplittableRandom(42));
+
+    @Setup
+    public void setup() {
+        engine = Fixtures.newGame(fleet, 42);
+        player = engine.getPlayer(1);
+        Direction[] directions = Direction.values();
+        candidates = new Ship[Map.CELLS * directions.length];
+        int i = 0;
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            for (Direction direction : directions) {
+                candidates[i++] = new Ship(Map.cellX(cell) + 1, Map.cellY(cell) + 1, direction, ShipType.DESTROYER);
+            }
+        }
+    }
+
+    @Benchmark
+    public void shipTypeAtCoordinates(Blackhole bh) {
+        for (int y = 1; y <= Map.SIZE; y++) {
+            for (int x = 1; x <= Map.SIZE; x++) {
+                bh.consume(engine.getShipTypeAtCoordinates(player, x, y));
+            }
+        }
+    }
+
+    @Benchmark
+    public void shipAtCoordinates(Blackhole bh) {
+        for (ShipType type : SHIP_TYPES) {
+            for (int y = 1; y <= Map.SIZE; y++) {
+                for (int x = 1; x <= Map.SIZE; x++) {
+                    bh.consume(engine.getShipAtCoordinates(type, player, x, y));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Player randomFleet() {
+        Player fresh = new Player();
+        fleetGenerator.placeFleet(fresh);
+        return fresh;
+    }
+
+    @Benchmark
+    public void shipLocationLegal(Blackhole bh) {
+        for (Ship candidate : candidates) {
+            bh.consume(engine.getShipLocationLegal(player, candidate));
+        }
+    }
+}
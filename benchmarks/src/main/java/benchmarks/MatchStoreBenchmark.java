@@ -0,0 +1,82 @@
+package benchmarks;
+
+import engine.FleetGenerator;
+import engine.GameEngine;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import store.MatchStore;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+@State(Scope.Thread)
+public class MatchStoreBenchmark {
+    @Param({"1000", "1000000"})
+    public int matches;
+
+    private GameEngine[] engines;
+    private MatchStore store;
+    private SplittableRandom random;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        random = new SplittableRandom(42);
+        FleetGenerator fleetGenerator = new FleetGenerator(new SplittableRandom(42));
+        engines = new GameEngine[matches];
+        store = new MatchStore();
+        for (int i = 0; i < matches; i++) {
+            GameEngine engine = new GameEngine();
+            engine.placeFleet(engine.getPlayer(1), fleetGenerator);
+            engine.placeFleet(engine.getPlayer(2), fleetGenerator);
+            engine.getPlayer(1).setNickname("player");
+            engine.getPlayer(2).setNickname("opponent");
+            engines[i] = engine;
+            store.copyFrom(store.allocate(i), engine);
+        }
+    }
+
+    @Benchmark
+    public ShipType engineShipTypeAt() {
+        GameEngine engine = engines[random.nextInt(matches)];
+        int cell = random.nextInt(Map.CELLS);
+        return engine.getShipTypeAtCoordinates(engine.getPlayer(2), Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+    }
+
+    @Benchmark
+    public ShipType storeShipTypeAt() {
+        return store.getShipTypeAt(random.nextInt(matches), 2, random.nextInt(Map.CELLS));
+    }
+
+    @Benchmark
+    public ShotResult engineShoot() {
+        GameEngine engine = engines[random.nextInt(matches)];
+        ShotResult result = engine.shoot(random.nextInt(Map.SIZE) + 1, random.nextInt(Map.SIZE) + 1);
+        engine.changeTurn();
+        return result;
+    }
+
+    @Benchmark
+    public ShotResult storeShoot() {
+        int slot = random.nextInt(matches);
+        ShotResult result = store.shoot(slot, random.nextInt(Map.SIZE) + 1, random.nextInt(Map.SIZE) + 1);
+        store.changeTurn(slot);
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import engine.GameEngine;
+import enums.MapStatus;
+import objects.Map;
+import objects.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import render.FrameRenderer;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+    @Param({Fixtures.PACKED, Fixtures.SPREAD, Fixtures.RANDOM})
+    public String fleet;
+
+    @Param({"0", "25", "50", "75"})
+    public int fill;
+
+    @Param({"false", "true"})
+    public boolean ansi;
+
+    private Player player;
+    private FrameRenderer renderer;
+    private Map shots;
+    private int toggleCell;
+    private boolean toggled;
+
+    @Setup
+    public void setup() {
+        GameEngine engine = Fixtures.newGame(fleet, 42);
+        Fixtures.fill(engine, fill, 7);
+        player = engine.getPlayer(1);
+        renderer = new FrameRenderer(engine, new PrintStream(OutputStream.nullOutputStream()), ansi);
+        renderer.setScreenRows(Integer.MAX_VALUE);
+        shots = player.getMap();
+        toggleCell = 0;
+        while (toggleCell < Map.CELLS - 1 && shots.isAttacked(toggleCell)) toggleCell++;
+    }
+
+    @Benchmark
+    public void printTurn() {
+        toggled = !toggled;
+        shots.setStatus(toggleCell, toggled ? MapStatus.MISS : MapStatus.NOT_ATTACKED);
+        renderer.printTurn(player);
+    }
+
+    @Benchmark
+    public void printShips() {
+        renderer.printShips(player);
+    }
+}
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import engine.GameEngine;
+import enums.ShotResult;
+import metrics.GameMetrics;
+import objects.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShotBenchmark {
+    @Param({Fixtures.PACKED, Fixtures.SPREAD, Fixtures.RANDOM})
+    public String fleet;
+
+    private int[] order;
+    private GameEngine engine;
+    private int shot;
+    private GameMetrics metrics;
+
+    @Setup
+    public void setup() {
+        order = Fixtures.shotOrder(7);
+        engine = Fixtures.newGame(fleet, 42);
+        shot = 0;
+        metrics = new GameMetrics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        metrics.close();
+    }
+
+    @Benchmark
+    public ShotResult shotCycle() {
+        if (shot == order.length * 2 || engine.isOver()) {
+            engine = Fixtures.newGame(fleet, 42);
+            shot = 0;
+        }
+        int cell = order[shot++ / 2];
+        ShotResult result = engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+        engine.changeTurn();
+        return result;
+    }
+
+    @Benchmark
+    public ShotResult shotCycleWithMetrics() {
+        if (shot == order.length * 2 || engine.isOver()) {
+            engine = Fixtures.newGame(fleet, 42);
+            shot = 0;
+        }
+        int cell = order[shot++ / 2];
+        long start = metrics.startShot();
+        ShotResult result = engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+        metrics.recordShot(result, engine.getLastShipType(), start);
+        engine.changeTurn();
+        return result;
+    }
+
+    @Benchmark
+    public int fullGame() {
+        GameEngine game = Fixtures.newGame(fleet, 42);
+        int shots = 0;
+        for (int cell : order) {
+            for (int i = 0; i < 2; i++) {
+                shots++;
+                if (game.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1) == ShotResult.WIN) return shots;
+                game.changeTurn();
+            }
+        }
+        return shots;
+    }
+}
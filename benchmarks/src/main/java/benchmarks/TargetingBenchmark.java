@@ -0,0 +1,68 @@
+package benchmarks;
+
+import ai.DensityTargeter;
+import ai.MonteCarloTargeter;
+import ai.TargetingStrategy;
+import engine.GameEngine;
+import enums.ShotResult;
+import objects.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TargetingBenchmark {
+    @Param({Fixtures.PACKED, Fixtures.SPREAD, Fixtures.RANDOM})
+    public String fleet;
+
+    @Param({"1000"})
+    public int samples;
+
+    private DensityTargeter density;
+    private MonteCarloTargeter monteCarlo;
+
+    @Setup
+    public void setup() {
+        density = new DensityTargeter();
+        monteCarlo = new MonteCarloTargeter(samples, ForkJoinPool.commonPool(), 42);
+    }
+
+    @Benchmark
+    public int densityGame() {
+        return play(density);
+    }
+
+    @Benchmark
+    public int monteCarloGame() {
+        return play(monteCarlo);
+    }
+
+    private int play(TargetingStrategy targeter) {
+        GameEngine game = Fixtures.newGame(fleet, 42);
+        Map shots = game.getPlayer(1).getMap();
+        targeter.reset();
+        int fired = 0;
+        while (true) {
+            int cell = targeter.nextShot(shots);
+            ShotResult result = game.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+            targeter.onShot(shots, cell, result, game.getLastShipType());
+            fired++;
+            if (result == ShotResult.WIN) return fired;
+        }
+    }
+}
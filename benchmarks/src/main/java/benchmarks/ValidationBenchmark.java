@@ -0,0 +1,86 @@
+package benchmarks;
+
+import engine.GameEngine;
+import engine.Validation;
+import enums.Direction;
+import enums.MapStatus;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final String[] INPUTS = {"A1", "J10", "e5", "K3", "B11", "C0", "D", "Fx", "G123", ""};
+
+    @Param({Fixtures.PACKED, Fixtures.SPREAD, Fixtures.RANDOM})
+    public String fleet;
+
+    private GameEngine engine;
+    private Player player;
+    private int[] order;
+    private int shot;
+
+    @Setup
+    public void setup() {
+        engine = Fixtures.newGame(fleet, 42);
+        player = engine.getPlayer(1);
+        order = Fixtures.shotOrder(7);
+        shot = 0;
+    }
+
+    @Benchmark
+    public void checkPlacement(Blackhole bh) {
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            for (Direction direction : DIRECTIONS) {
+                bh.consume(Validation.checkPlacement(player, ShipType.DESTROYER, direction,
+                        Map.cellX(cell) + 1, Map.cellY(cell) + 1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseCell(Blackhole bh) {
+        for (String input : INPUTS) bh.consume(Validation.parseCell(input));
+    }
+
+    @Benchmark
+    public void checkShot(Blackhole bh) {
+        for (int y = 1; y <= Map.SIZE; y++) {
+            for (int x = 1; x <= Map.SIZE; x++) bh.consume(Validation.checkShot(engine, x, y));
+        }
+    }
+
+    @Benchmark
+    public ShotResult resolveShot() {
+        int cell = order[shot];
+        shot = (shot + 1) % order.length;
+        ShotResult result = engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+        engine.getCurrentPlayer().getMap().setStatus(cell, MapStatus.NOT_ATTACKED);
+        if (result != ShotResult.MISS) {
+            Ship ship = engine.getOtherPlayer().getShip(engine.getLastShipType());
+            ship.setHits(ship.getHits() - 1);
+        }
+        return result;
+    }
+}
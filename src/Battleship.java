@@ -1,5 +1,14 @@
 public class Battleship {
     public static void main(String[] args) {
-        new GameLoop();
+        GameOptions options;
+        try {
+            options = GameOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (options.isLargeBoard()) new LargeGameLoop(options);
+        else new GameLoop(options);
     }
-}
\ No newline at end of file
+}
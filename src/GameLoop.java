@@ -1,38 +1,102 @@
+import ai.BookTargeter;
+import ai.DensityTargeter;
+import ai.EndgameTargeter;
+import ai.MonteCarloTargeter;
+import ai.MoveScheduler;
+import ai.OpeningBook;
+import ai.TargetingStrategy;
+import engine.FleetGenerator;
+import engine.GameEngine;
+import engine.GameListener;
+import engine.Validation;
 import enums.Direction;
-import enums.MapStatus;
-import enums.ShipStatus;
 import enums.ShipType;
+import enums.ShotResult;
+import eventlog.EventLog;
+import events.EventBus;
+import events.GameEvent;
+import events.Subscription;
+import metrics.GameMetrics;
 import exceptions.ShipIllegalLocationException;
-import exceptions.ShipNoneException;
-import exceptions.ShipTypeMismatchException;
 import objects.Map;
 import objects.Player;
 import objects.Ship;
-import java.util.InputMismatchException;
+import render.FrameRenderer;
+import render.HeatmapOverlay;
+import snapshot.GameSnapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
 
 public class GameLoop {
-    private int turn = 1;
     private final Scanner s;
-    private final Player player1;
-    private final Player player2;
+    private final GameEngine engine;
+    private final FrameRenderer renderer;
+    private final boolean computer;
+    private final MoveScheduler scheduler;
+    private final TargetingStrategy targeter;
+    private final FleetGenerator fleetGenerator = new FleetGenerator(new Random());
+    private final EventLog eventLog;
+    private final Subscription spectator;
+    private final HeatmapOverlay heatmap;
+    private final GameMetrics metrics;
+    private final long metricsInterval;
 
     public GameLoop() {
+        this(new GameOptions());
+    }
+
+    public GameLoop(GameOptions options) {
         s = new Scanner(System.in);
+        engine = new GameEngine();
+        renderer = new FrameRenderer(engine, System.out, options.isAnsi());
+        if (renderer.isAnsi()) System.setOut(renderer.getOut());
+        computer = options.isComputer();
+        scheduler = computer && options.getMoveTime() > 0 ? newScheduler(options) : null;
+        targeter = computer ? openBook(options.getBook(), scheduler != null ? scheduler : newTargeter(options)) : null;
+        eventLog = options.getEventLog() != null ? openEventLog(options.getEventLog()) : null;
+        metricsInterval = options.getMetricsInterval();
+        metrics = options.isMetrics() ? openMetrics() : null;
+        if (eventLog != null) engine.setListener(eventLog.listener(System.currentTimeMillis()));
+        if (options.isSpectate()) {
+            EventBus bus = new EventBus();
+            spectator = bus.subscribe();
+            spectator.start("spectator", (sequence, event) -> System.err.println(GameEvent.describe(event)));
+            engine.setListener(GameListener.combine(engine.getListener(), bus.listener()));
+        } else {
+            spectator = null;
+        }
+        if (options.isHeatmap()) {
+            heatmap = new HeatmapOverlay(engine);
+            renderer.setOverlay(heatmap);
+            engine.setListener(GameListener.combine(engine.getListener(), heatmap));
+        } else {
+            heatmap = null;
+        }
 
-        player1 = newPlayer(1);
-        changeTurn();
-        player2 = newPlayer(2);
+        if (options.getSnapshot() != null && loadGame(options.getSnapshot())) {
+            engine.changeTurn();
+        } else {
+            newPlayer(1);
+            changeTurn();
+            if (computer) newComputerPlayer(2);
+            else newPlayer(2);
+        }
         loop();
     }
 
     private void changeTurn() {
-        turn++;
-        if (turn > 2) turn = 1;
+        engine.changeTurn();
+        if (computer) return;
         clearScreen();
-        try {
+        if (getCurrentPlayer().getNickname() != null) {
             System.out.println("It is now " + getCurrentPlayer().getNickname() + "'s turn!");
-        } catch (NullPointerException e) {
+        } else {
             System.out.println("It is now the other player's turn!");
         }
         clearScreen();
@@ -41,402 +105,298 @@ public class GameLoop {
     private void doTurn() {
         String input;
         while (true) {
-            try {
-                Player player = getCurrentPlayer();
-                Player otherPlayer = getOtherPlayer();
-                input = getInput_String();
-                if (input.length() < 1 || input.length() > 3) {
-                    System.out.println("Please enter coordinates in the format A0!");
-                    continue;
-                }
-                int x;
-                int y;
-                try {
-                    x = Integer.parseInt(input.substring(1, 3));
-                } catch (IndexOutOfBoundsException e) {
-                    x = Integer.parseInt(input.substring(1, 2));
-                }
-                if (x < 1 || x > 10) {
-                    System.out.println("X-Coordinate must be between 1 and 10!");
-                    continue;
-                }
-                y = input.toLowerCase().charAt(0) - 96;
-                if (y < 1 || y > 10) {
-                    System.out.println("Y-Coordinate must be between A and J!");
-                    continue;
-                }
-                if (player.getMap().getMap(x, y) != MapStatus.NOT_ATTACKED) {
-                    System.out.println("You already attacked there!");
-                    continue;
-                }
-
-                ShipType type = getShipTypeAtCoordinates(otherPlayer, x, y);
-                x--;
-                y--;
-                if (type == ShipType.NONE) {
-                    player.getMap().setMap(x, y, MapStatus.MISS);
-                    System.out.println("Miss");
-                    return;
-                }
-                player.getMap().setMap(x, y, MapStatus.HIT);
-                System.out.println("You hit " + otherPlayer.getNickname() + "'s " + type.toString().replaceAll("_", " ") + "!");
-                otherPlayer.getShipByType(type).hit();
-                boolean win;
-                if (otherPlayer.getShipByType(type).getStatus() == ShipStatus.SUNK) {
-                    win = true;
-                    for (Ship ship : otherPlayer.getShips()) {
-                        if (ship.getStatus() != ShipStatus.SUNK) {
-                            win = false;
-                            break;
-                        }
-                    }
-                    if (!win) {
-                        System.out.println("You sunk " + otherPlayer.getNickname() + "'s " + type.toString().replaceAll("_", " ") + "!");
-                    } else {
-                        System.out.println("You sunk " + otherPlayer.getNickname() + "'s " + type.toString().replaceAll("_", " ") + " and won!");
-                        System.exit(0);
-                    }
+            Player otherPlayer = getOtherPlayer();
+            long start = System.nanoTime();
+            input = getInput_String();
+            if (metrics != null) metrics.recordInputWait(System.nanoTime() - start);
+            if (input.toLowerCase().startsWith("save ")) {
+                saveGame(Path.of(input.substring(5).trim()));
+                continue;
+            }
+            if (input.toLowerCase().startsWith("load ")) {
+                if (loadGame(Path.of(input.substring(5).trim()))) {
+                    renderer.invalidate();
+                    renderer.printTurn(getCurrentPlayer());
+                    System.out.println("Where would you like to shoot?");
                 }
-                return;
-            } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
-                System.out.println("Error");
                 continue;
-            } catch (ShipTypeMismatchException | ShipNoneException e) {
-                // ignore
             }
+            int cell = readCell(input);
+            if (cell < 0) continue;
+
+            start = metrics != null ? metrics.startShot() : 0;
+            ShotResult result = engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+            if (metrics != null) metrics.recordShot(result, engine.getLastShipType(), start);
+            if (result == ShotResult.ALREADY_ATTACKED) {
+                System.out.println("You already attacked there!");
+                continue;
+            }
+            if (result == ShotResult.INVALID) {
+                System.out.println("You can't shoot there!");
+                continue;
+            }
+            if (result == ShotResult.MISS) {
+                System.out.println("Miss");
+                return;
+            }
+            String type = engine.getLastShipType().toString().replaceAll("_", " ");
+            System.out.println("You hit " + otherPlayer.getNickname() + "'s " + type + "!");
+            if (result == ShotResult.SUNK) {
+                System.out.println("You sunk " + otherPlayer.getNickname() + "'s " + type + "!");
+            } else if (result == ShotResult.WIN) {
+                System.out.println("You sunk " + otherPlayer.getNickname() + "'s " + type + " and won!");
+                if (metrics != null) metrics.recordGameCompleted();
+                exit();
+            }
+            return;
         }
     }
 
-    private Player getCurrentPlayer() {
-        if (turn == 1) return player1;
-        else return player2;
-    }
-
-    private Player getOtherPlayer() {
-        if (getCurrentPlayer() == player1) return player2;
-        else return player1;
+    private int readCell(String input) {
+        int cell = Validation.parseCell(input);
+        switch (cell) {
+            case Validation.COORDINATE_FORMAT -> System.out.println("Please enter coordinates in the format A0!");
+            case Validation.COORDINATE_NUMBER -> System.out.println("Error");
+            case Validation.COORDINATE_COLUMN -> System.out.println("X-Coordinate must be between 1 and 10!");
+            case Validation.COORDINATE_ROW -> System.out.println("Y-Coordinate must be between A and J!");
+            default -> {
+            }
+        }
+        return cell;
     }
 
-    private void loop() {
-        Player player;
-        while (true) {
-            changeTurn();
-            player = getCurrentPlayer();
-            printTurn(player);
-            System.out.println("Where would you like to shoot?");
-            doTurn();
+    private void doComputerTurn() {
+        Player otherPlayer = getOtherPlayer();
+        Map shots = getCurrentPlayer().getMap();
+        int cell = targeter.nextShot(shots);
+        int x = Map.cellX(cell) + 1;
+        int y = Map.cellY(cell) + 1;
+        long start = metrics != null ? metrics.startShot() : 0;
+        ShotResult result = engine.shoot(x, y);
+        if (metrics != null) metrics.recordShot(result, engine.getLastShipType(), start);
+        targeter.onShot(shots, cell, result, engine.getLastShipType());
+
+        String name = getCurrentPlayer().getNickname();
+        String coordinates = (char) (y + 64) + String.valueOf(x);
+        if (result == ShotResult.MISS) {
+            System.out.println(name + " shot at " + coordinates + " and missed.");
+            return;
+        }
+        String type = engine.getLastShipType().toString().replaceAll("_", " ");
+        System.out.println(name + " hit " + otherPlayer.getNickname() + "'s " + type + " at " + coordinates + "!");
+        if (result == ShotResult.SUNK) {
+            System.out.println(name + " sunk " + otherPlayer.getNickname() + "'s " + type + "!");
+        } else if (result == ShotResult.WIN) {
+            System.out.println(name + " sunk " + otherPlayer.getNickname() + "'s " + type + " and won!");
+            if (metrics != null) metrics.recordGameCompleted();
+            exit();
         }
     }
 
-    private void clearScreen() {
-        System.out.print("Press Enter to Continue.");
-        s.nextLine();
-        for (int i = 0; i < 100; i++) {
-            System.out.println();
+    private void saveGame(Path path) {
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.size(engine));
+        GameSnapshot.write(engine, buffer);
+        try {
+            Files.write(path, buffer.array());
+            System.out.println("Game saved to " + path);
+        } catch (IOException e) {
+            System.out.println("Could not save game: " + e.getMessage());
         }
     }
 
-    private Player newPlayer(int playerNumber) {
-        Player player = new Player();
-        System.out.println("What is Player " + playerNumber + "'s name?");
-        player.setNickname(getInput_String());
-        printShips(player);
-        for (ShipType type : ShipType.values()) {
-            if (type == ShipType.NONE) continue;
-            while (true) {
-                Ship ship = newShip(type);
-                try {
-                    if (getShipLocationLegal(player, ship)) {
-                        player.setShipByType(type, ship);
-                        printShips(player);
-                        break;
-                    }
-                } catch (ShipTypeMismatchException e) {
-                    System.out.println("Something went really wrong!");
-                    e.printStackTrace();
-                    System.exit(0);
-                } catch (ShipIllegalLocationException e) {
-                    System.out.println("You cannot put a ship there!");
-                    continue;
-                } catch (ShipNoneException e) {
-                    // ignore
-                }
+    private boolean loadGame(Path path) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            if (GameSnapshot.read(buffer.duplicate()).isOver()) {
+                System.out.println("Could not load game: that game is already over");
+                return false;
             }
+            GameSnapshot.read(buffer, engine);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Could not load game: " + e.getMessage());
+            return false;
         }
-        return player;
+        if (computer) {
+            Map shots = engine.getPlayer(2).getMap();
+            targeter.load(shots, engine.getPlayer(1).getSunkShips(shots));
+        }
+        if (heatmap != null) heatmap.load();
+        System.out.println("Game loaded from " + path);
+        return true;
     }
 
-    private String getInput_String() {
-        System.out.print("> ");
-        return s.nextLine();
+    private static TargetingStrategy newTargeter(GameOptions options) {
+        if (options.isEndgame()) return new EndgameTargeter();
+        if (options.getSamples() > 0) return new MonteCarloTargeter(options.getSamples());
+        return new DensityTargeter();
     }
 
-    private void printTurn(Player player) {
-        System.out.println();
-        System.out.print("   ");
-        for (int i = 0; i < 2; i++) {
-            for (int j = 0; j < 10; j++) {
-                System.out.print("     ");
-                System.out.print(j + 1);
-            }
-            System.out.print("\t   ");
-        }
-        System.out.println();
-        for (var i = 0; i < 10; i++) {
-            printDoubleLine();
-            System.out.println();
-            printBoard(player, i);
-            System.out.print("\t");
-            printShipsLine(player, i);
-            System.out.println();
+    private static MoveScheduler newScheduler(GameOptions options) {
+        int samples = options.getSamples() > 0 ? options.getSamples() : Integer.MAX_VALUE;
+        return new MoveScheduler(new MonteCarloTargeter(samples), TimeUnit.MILLISECONDS.toNanos(options.getMoveTime()));
+    }
+
+    private static TargetingStrategy openBook(Path path, TargetingStrategy fallback) {
+        if (path == null) return fallback;
+        try {
+            return new BookTargeter(new OpeningBook(path), fallback);
+        } catch (IOException e) {
+            System.out.println("Could not open opening book " + path + ": " + e.getMessage());
+            return fallback;
         }
-        printDoubleLine();
-        System.out.println();
     }
 
-    private void printBoard(Player player, int i) {
-        System.out.print("  ");
-        System.out.print((char) (i + 65));
-        System.out.print("  ");
-        for (int j = 0; j < 10; j++) {
-            System.out.print("|  ");
-            System.out.print(getCharacter(player.getMap(), j + 1, i + 1));
-            System.out.print("  ");
+    private EventLog openEventLog(Path path) {
+        try {
+            return new EventLog(path);
+        } catch (IOException e) {
+            System.out.println("Could not open event log " + path + ": " + e.getMessage());
+            return null;
         }
-        System.out.print("|");
     }
 
-    private void printShipsLine(Player player, int i) {
-        System.out.print("  ");
-        System.out.print((char) (i + 65));
-        System.out.print("  ");
-        for (int j = 0; j < 10; j++) {
-            System.out.print("|  ");
-            System.out.print(getCharacter(player, getOtherPlayer(player), j + 1, i + 1));
-            System.out.print("  ");
+    private GameMetrics openMetrics() {
+        GameMetrics gameMetrics = new GameMetrics();
+        try {
+            gameMetrics.register();
+            if (scheduler != null) scheduler.getMetrics().register();
+        } catch (JMException e) {
+            System.out.println("Could not register metrics: " + e.getMessage());
         }
-        System.out.print("|");
+        if (metricsInterval > 0) gameMetrics.startReporter(System.err, metricsInterval);
+        return gameMetrics;
     }
 
-    private void printShips(Player player) {
-        System.out.println();
-        System.out.print("   ");
-        for (int i = 0; i < 10; i++) {
-            System.out.print("     ");
-            System.out.print(i + 1);
+    private void exit() {
+        if (metrics != null) {
+            if (metricsInterval > 0) metrics.report(System.err);
+            if (metricsInterval > 0 && scheduler != null) scheduler.getMetrics().report(System.err);
+            metrics.close();
         }
-        for (int i = 0; i < 10; i++) {
-            System.out.println();
-            printLine();
-            System.out.println();
-            System.out.print("  ");
-            System.out.print((char) (i + 65));
-            System.out.print("  ");
-            for (int j = 0; j < 10; j++) {
-                System.out.print("|  ");
-                System.out.print(getCharacter(player, getOtherPlayer(player), j + 1, i + 1));
-                System.out.print("  ");
+        if (scheduler != null) scheduler.close();
+        if (spectator != null) spectator.close();
+        if (heatmap != null) heatmap.close();
+        if (eventLog != null) {
+            try {
+                eventLog.close();
+            } catch (IOException e) {
+                System.out.println("Could not close event log: " + e.getMessage());
             }
-            System.out.print("|");
         }
-        System.out.println();
-        printLine();
-        System.out.println();
+        System.exit(0);
     }
 
-
-    private Player getOtherPlayer(Player player) {
-        if (player == player1) return player2;
-        else return player1;
+    private Player getCurrentPlayer() {
+        return engine.getCurrentPlayer();
     }
 
-    private char getCharacter(Player player, Player opponent, int x, int y) {
-        if (opponent != null) {
-//            System.out.print(opponent.getMap().getMap(x, y));
-            if (opponent.getMap().getMap(x, y) == MapStatus.HIT) return 'X';
-            else if (opponent.getMap().getMap(x, y) == MapStatus.MISS) return 'O';
-//            else if (opponent.getMap().getMap(x, y) == MapStatus.NOT_ATTACKED) return 'o';
-        }
-        return switch (getShipTypeAtCoordinates(player, x, y)) {
-            case AIRCRAFT_CARRIER -> 'A';
-            case BATTLESHIP -> 'B';
-            case DESTROYER -> 'D';
-            case SUBMARINE -> 'S';
-            case PATROL_BOAT -> 'P';
-            default -> ' ';
-        };
+    private Player getOtherPlayer() {
+        return engine.getOtherPlayer();
     }
 
-    private boolean getShipLocationLegal(Player player, Ship ship) throws ShipIllegalLocationException {
-        int ship_x = ship.getxLocation();
-        int ship_y = ship.getyLocation();
-        int ship_length = ship.getLength();
-        Direction ship_dir = ship.getDirection();
-
-        switch (ship_dir) {
-            case NORTH -> {
-                if (ship_y - ship_length < 0) throw new ShipIllegalLocationException();
-                for (int i = 1; i <= ship_length; i++) {
-                    if (getShipTypeAtCoordinates(player, ship_x, ship_y - i) != ShipType.NONE) throw new ShipIllegalLocationException();
-                }
-            }
-            case SOUTH -> {
-                if (ship_y + ship_length > 10) throw new ShipIllegalLocationException();
-                for (int i = 1; i <= ship_length; i++) {
-                    if (getShipTypeAtCoordinates(player, ship_x, ship_y + i) != ShipType.NONE) throw new ShipIllegalLocationException();
-                }
-            }
-            case EAST -> {
-                if (ship_x + ship_length > 10) throw new ShipIllegalLocationException();
-                for (int i = 1; i <= ship_length; i++) {
-                    if (getShipTypeAtCoordinates(player, ship_x + i, ship_y) != ShipType.NONE) throw new ShipIllegalLocationException();
-                }
-            }
-            case WEST -> {
-                if (ship_x - ship_length < 0) throw new ShipIllegalLocationException();
-                for (int i = 1; i <= ship_length; i++) {
-                    if (getShipTypeAtCoordinates(player, ship_x - i, ship_y) != ShipType.NONE) throw new ShipIllegalLocationException();
-                }
+    private void loop() {
+        Player player;
+        while (true) {
+            changeTurn();
+            player = getCurrentPlayer();
+            if (computer && engine.getTurn() == 2) {
+                doComputerTurn();
+                continue;
             }
+            long start = System.nanoTime();
+            renderer.printTurn(player);
+            if (metrics != null) metrics.recordRender(System.nanoTime() - start);
+            System.out.println("Where would you like to shoot?");
+            doTurn();
         }
-
-
-        return true;
     }
 
-    private ShipType getShipTypeAtCoordinates(Player player, int x, int y) {
-        try {
-            for (ShipType type : ShipType.values()) {
-                if (type == ShipType.NONE) continue;
-                if (getShipAtCoordinates(type, player, x, y)) return type;
-            }
-        } catch (ShipNoneException | ShipTypeMismatchException e) {
-            // ignore
-        }
-        return ShipType.NONE;
+    private void clearScreen() {
+        System.out.print("Press Enter to Continue.");
+        s.nextLine();
+        renderer.clear();
     }
 
-    private boolean getShipAtCoordinates(ShipType shipType, Player player, int x, int y) throws ShipNoneException, ShipTypeMismatchException {
-        if (player.getShipByType(shipType) == null) return false;
-        int ship_x = player.getShipByType(shipType).getxLocation();
-        int ship_y = player.getShipByType(shipType).getyLocation();
-        if (x == ship_x && y == ship_y) return true;
-        int ship_length = player.getShipByType(shipType).getLength();
-        Direction ship_dir = player.getShipByType(shipType).getDirection();
-
-        switch (ship_dir) {
-            case NORTH -> {
-                if (y > ship_y || ship_y - y > ship_length - 1) {
-                    break;
-                }
-
-                if (ship_x == x) {
-                    return true;
-                }
-            }
-            case SOUTH -> {
-                if (y < ship_y || y - ship_y > ship_length - 1) {
-                    break;
-                }
-
-                if (ship_x == x) {
-                    return true;
-                }
-            }
-            case EAST -> {
-                if (x < ship_x || x - ship_x > ship_length - 1) {
-                    break;
-                }
-
-                if (ship_y == y) {
-                    return true;
-                }
-            }
-            case WEST -> {
-                if (x > ship_x || ship_x - x > ship_length - 1) {
-                    break;
+    private Player newPlayer(int playerNumber) {
+        Player player = engine.getPlayer(playerNumber);
+        System.out.println("What is Player " + playerNumber + "'s name?");
+        player.setNickname(getInput_String());
+        renderer.printShips(player);
+        System.out.println("Type auto at any ship prompt to place the rest of your fleet randomly.");
+        for (ShipType type : ShipType.values()) {
+            if (type == ShipType.NONE) continue;
+            while (true) {
+                Ship ship = newShip(type);
+                if (ship == null) {
+                    if (!engine.placeFleet(player, fleetGenerator)) {
+                        System.out.println("Your other ships did not fit, so your whole fleet was placed randomly.");
+                        engine.placeNewFleet(player, fleetGenerator);
+                    }
+                    renderer.printShips(player);
+                    return player;
                 }
-
-                if (ship_y == y) {
-                    return true;
+                try {
+                    if (getShipLocationLegal(player, ship) && engine.placeShip(player, ship)) {
+                        renderer.printShips(player);
+                        break;
+                    }
+                } catch (ShipIllegalLocationException e) {
+                    if (metrics != null) metrics.recordPlacementRejected();
+                    System.out.println("You cannot put a ship there!");
                 }
             }
-            default -> {
-                return false;
-            }
         }
-        return false;
+        return player;
     }
 
-    private void printLine() {
-        System.out.print("     +-----+-----+-----+-----+-----+-----+-----+-----+-----+-----+");
+    private Player newComputerPlayer(int playerNumber) {
+        Player player = engine.getPlayer(playerNumber);
+        player.setNickname("Computer");
+        if (!engine.placeFleet(player, fleetGenerator)) engine.placeNewFleet(player, fleetGenerator);
+        return player;
     }
 
-    private void printDoubleLine() {
-        printLine();
-        System.out.print("  ");
-        printLine();
+    private String getInput_String() {
+        System.out.print("> ");
+        String input = s.nextLine();
+        renderer.inputLine();
+        return input;
     }
 
-    private char getCharacter(Map map, int x, int y) {
-        if (map.getMap(x, y) == MapStatus.HIT) {
-            return 'X';
-        } else if (map.getMap(x, y) == MapStatus.MISS) {
-            return 'O';
-        } else {
-            return ' ';
-        }
+    private boolean getShipLocationLegal(Player player, Ship ship) throws ShipIllegalLocationException {
+        if (!engine.getShipLocationLegal(player, ship)) throw new ShipIllegalLocationException();
+        return true;
     }
 
     private Ship newShip(ShipType type) {
-        int x;
-        int y;
+        int cell;
         Direction direction;
         while (true) {
-            try {
-                String s1 = type.toString().toLowerCase().replaceAll("_", " ") + " (length " + type.getLength() + ")";
-                System.out.println("Where is your " + s1 + " (A0)?");
-                String input = getInput_String();
-                try {
-                    x = Integer.parseInt(input.substring(1, 3));
-                } catch (IndexOutOfBoundsException e) {
-                    x = Integer.parseInt(input.substring(1, 2));
-                }
-                if (x < 1 || x > 10) {
-                    System.out.println("X-Coordinate must be between 1 and 10!");
+            String s1 = type.toString().toLowerCase().replaceAll("_", " ") + " (length " + type.getLength() + ")";
+            System.out.println("Where is your " + s1 + " (A0)?");
+            String input = getInput_String();
+            if (input.equalsIgnoreCase("auto")) return null;
+            cell = readCell(input);
+            if (cell < 0) continue;
+            System.out.println("What direction does your ship go (north, south, east, west)?");
+            String dir = getInput_String();
+            switch (dir) {
+                case "north", "n" -> direction = Direction.NORTH;
+                case "south", "s" -> direction = Direction.SOUTH;
+                case "east", "e" -> direction = Direction.EAST;
+                case "west", "w" -> direction = Direction.WEST;
+                default -> {
+                    System.out.println("Please enter a valid direction!");
                     continue;
                 }
-                y = input.toLowerCase().charAt(0) - 96;
-                if (y < 1 || y > 10) {
-                    System.out.println("Y-Coordinate must be between A and J!");
-                    continue;
-                }
-                System.out.println("What direction does your ship go (north, south, east, west)?");
-                String dir = getInput_String();
-                switch (dir) {
-                    case "north", "n" -> direction = Direction.NORTH;
-                    case "south", "s" -> direction = Direction.SOUTH;
-                    case "east", "e" -> direction = Direction.EAST;
-                    case "west", "w" -> direction = Direction.WEST;
-                    default -> {
-                        System.out.println("Please enter a valid direction!");
-                        continue;
-                    }
-                }
-                System.out.println("Is this correct?");
-                input = getInput_String();
-                if (!input.equalsIgnoreCase("y") && !input.equalsIgnoreCase("yes")) continue;
-                break;
-            } catch (InputMismatchException e) {
-                System.out.println("Please enter a number!");
-                s.next();
-            } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
-                System.out.println("Error");
-                continue;
             }
+            System.out.println("Is this correct?");
+            input = getInput_String();
+            if (!input.equalsIgnoreCase("y") && !input.equalsIgnoreCase("yes")) continue;
+            break;
         }
 
-        return new Ship(x, y, direction, type);
+        return new Ship(Map.cellX(cell) + 1, Map.cellY(cell) + 1, direction, type);
     }
 
 }
@@ -0,0 +1,216 @@
+import large.LargeBoard;
+import objects.Map;
+import java.nio.file.Path;
+import java.util.Set;
+
+public class GameOptions {
+    private boolean ansi;
+    private boolean computer;
+    private int samples;
+    private long moveTime;
+    private boolean endgame;
+    private Path book;
+    private int boardWidth;
+    private int boardHeight;
+    private int ships = 5;
+    private Path fleet;
+    private Path eventLog;
+    private Path snapshot;
+    private boolean metrics;
+    private boolean spectate;
+    private boolean heatmap;
+    private long metricsInterval;
+
+    private static final Set<String> STANDARD_BOARD_OPTIONS = Set.of("--ansi", "--computer", "--samples", "--move-time",
+            "--endgame", "--book", "--load", "--metrics", "--metrics-interval", "--spectate", "--heatmap", "--log");
+
+    public static GameOptions parse(String[] args) {
+        GameOptions options = new GameOptions();
+        String standardOption = null;
+        for (int i = 0; i < args.length; i++) {
+            if (standardOption == null && STANDARD_BOARD_OPTIONS.contains(args[i])) standardOption = args[i];
+            switch (args[i]) {
+                case "--ansi" -> options.ansi = true;
+                case "--computer" -> options.computer = true;
+                case "--samples" -> {
+                    options.computer = true;
+                    options.samples = Integer.parseInt(value(args, ++i));
+                }
+                case "--move-time" -> {
+                    options.computer = true;
+                    options.moveTime = Long.parseLong(value(args, ++i));
+                }
+                case "--endgame" -> {
+                    options.computer = true;
+                    options.endgame = true;
+                }
+                case "--book" -> {
+                    options.computer = true;
+                    options.book = Path.of(value(args, ++i));
+                }
+                case "--board" -> {
+                    String[] size = value(args, ++i).toLowerCase().split("x");
+                    if (size.length != 2) throw new IllegalArgumentException("--board needs a size like 1000x1000");
+                    options.boardWidth = Integer.parseInt(size[0]);
+                    options.boardHeight = Integer.parseInt(size[1]);
+                    if (options.boardWidth < 1 || options.boardWidth > LargeBoard.MAX_SIZE
+                            || options.boardHeight < 1 || options.boardHeight > LargeBoard.MAX_SIZE) {
+                        throw new IllegalArgumentException("--board must be between 1x1 and " + LargeBoard.MAX_SIZE + "x"
+                                + LargeBoard.MAX_SIZE);
+                    }
+                }
+                case "--load" -> options.snapshot = Path.of(value(args, ++i));
+                case "--metrics" -> options.metrics = true;
+                case "--metrics-interval" -> {
+                    options.metrics = true;
+                    options.metricsInterval = Long.parseLong(value(args, ++i));
+                }
+                case "--spectate" -> options.spectate = true;
+                case "--heatmap" -> options.heatmap = true;
+                case "--log" -> options.eventLog = Path.of(value(args, ++i));
+                case "--ships" -> options.ships = Integer.parseInt(value(args, ++i));
+                case "--fleet" -> options.fleet = Path.of(value(args, ++i));
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (options.fleet != null && options.boardWidth == 0) options.setBoardSize(Map.SIZE, Map.SIZE);
+        if (options.isLargeBoard() && standardOption != null) {
+            throw new IllegalArgumentException(standardOption + " cannot be combined with --board or --fleet");
+        }
+        return options;
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException(args[i - 1] + " needs a value");
+        return args[i];
+    }
+
+    public boolean isAnsi() {
+        return ansi;
+    }
+
+    public void setAnsi(boolean ansi) {
+        this.ansi = ansi;
+    }
+
+    public boolean isComputer() {
+        return computer;
+    }
+
+    public void setComputer(boolean computer) {
+        this.computer = computer;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public void setSamples(int samples) {
+        this.samples = samples;
+    }
+
+    public long getMoveTime() {
+        return moveTime;
+    }
+
+    public void setMoveTime(long moveTime) {
+        this.moveTime = moveTime;
+    }
+
+    public boolean isEndgame() {
+        return endgame;
+    }
+
+    public void setEndgame(boolean endgame) {
+        this.endgame = endgame;
+    }
+
+    public Path getBook() {
+        return book;
+    }
+
+    public void setBook(Path book) {
+        this.book = book;
+    }
+
+    public boolean isLargeBoard() {
+        return boardWidth > 0;
+    }
+
+    public int getBoardWidth() {
+        return boardWidth;
+    }
+
+    public int getBoardHeight() {
+        return boardHeight;
+    }
+
+    public void setBoardSize(int width, int height) {
+        this.boardWidth = width;
+        this.boardHeight = height;
+    }
+
+    public int getShips() {
+        return ships;
+    }
+
+    public void setShips(int ships) {
+        this.ships = ships;
+    }
+
+    public Path getFleet() {
+        return fleet;
+    }
+
+    public void setFleet(Path fleet) {
+        this.fleet = fleet;
+    }
+
+    public Path getEventLog() {
+        return eventLog;
+    }
+
+    public void setEventLog(Path eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    public Path getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(Path snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(boolean metrics) {
+        this.metrics = metrics;
+    }
+
+    public long getMetricsInterval() {
+        return metricsInterval;
+    }
+
+    public void setMetricsInterval(long metricsInterval) {
+        this.metricsInterval = metricsInterval;
+    }
+
+    public boolean isSpectate() {
+        return spectate;
+    }
+
+    public void setSpectate(boolean spectate) {
+        this.spectate = spectate;
+    }
+
+    public boolean isHeatmap() {
+        return heatmap;
+    }
+
+    public void setHeatmap(boolean heatmap) {
+        this.heatmap = heatmap;
+    }
+}
@@ -0,0 +1,141 @@
+import enums.ShotResult;
+import large.LargeBoard;
+import large.LargeGame;
+import objects.Fleet;
+import render.ViewportRenderer;
+import java.io.IOException;
+import java.util.Random;
+import java.util.Scanner;
+
+public class LargeGameLoop {
+    private static final int VIEW_COLUMNS = 30;
+    private static final int VIEW_ROWS = 20;
+    private static final int PLACEMENT_ATTEMPTS = 20;
+
+    private final Scanner s;
+    private final LargeGame game;
+    private final ViewportRenderer renderer;
+    private final int[] viewX = {1, 1};
+    private final int[] viewY = {1, 1};
+
+    public LargeGameLoop(GameOptions options) {
+        s = new Scanner(System.in);
+        game = new LargeGame(options.getBoardWidth(), options.getBoardHeight());
+        renderer = new ViewportRenderer(System.out);
+
+        Random random = new Random();
+        Fleet fleet = loadFleet(options);
+        for (int playerNumber = 1; playerNumber <= 2; playerNumber++) {
+            System.out.println("What is Player " + playerNumber + "'s name?");
+            game.setNickname(playerNumber, getInput_String());
+            int placed = 0;
+            for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS && placed < fleet.getShipCount(); attempt++) {
+                placed = game.getBoard(playerNumber).placeRandomFleet(fleet, random);
+            }
+            if (placed < fleet.getShipCount()) {
+                System.out.println("Could not fit all " + fleet.getShipCount() + " ships on a " + options.getBoardWidth()
+                        + "x" + options.getBoardHeight() + " board; try a larger --board.");
+                System.exit(1);
+            }
+            System.out.println("Placed " + placed + " ships for " + game.getNickname(playerNumber) + ".");
+        }
+        loop();
+    }
+
+    private void loop() {
+        while (true) {
+            clearScreen();
+            System.out.println("It is now " + game.getNickname(game.getTurn()) + "'s turn!");
+            clearScreen();
+            printTurn();
+            System.out.println("Where would you like to shoot (x y)? Type view x y to move the view.");
+            doTurn();
+            game.changeTurn();
+        }
+    }
+
+    private void doTurn() {
+        while (true) {
+            String[] input = getInput_String().trim().split("\\s+");
+            try {
+                if (input.length == 3 && input[0].equalsIgnoreCase("view")) {
+                    viewX[game.getTurn() - 1] = Integer.parseInt(input[1]);
+                    viewY[game.getTurn() - 1] = Integer.parseInt(input[2]);
+                    printTurn();
+                    continue;
+                }
+                if (input.length != 2) {
+                    System.out.println("Please enter coordinates in the format x y!");
+                    continue;
+                }
+                int x = Integer.parseInt(input[0]);
+                int y = Integer.parseInt(input[1]);
+                ShotResult result = game.shoot(x, y);
+                String other = game.getNickname(game.getOtherTurn());
+                LargeBoard target = game.getTargetBoard();
+                switch (result) {
+                    case INVALID -> {
+                        System.out.println("Coordinates must be within " + target.getWidth() + "x" + target.getHeight() + "!");
+                        continue;
+                    }
+                    case ALREADY_ATTACKED -> {
+                        System.out.println("You already attacked there!");
+                        continue;
+                    }
+                    case MISS -> System.out.println("Miss");
+                    case HIT -> System.out.println("You hit " + other + "'s " + target.getShipName(target.getLastShip()) + "!");
+                    case SUNK -> System.out.println("You sunk " + other + "'s " + target.getShipName(target.getLastShip())
+                            + "! " + target.getShipsAfloat() + " left.");
+                    case WIN -> {
+                        System.out.println("You sunk " + other + "'s last " + target.getShipName(target.getLastShip()) + " and won!");
+                        System.exit(0);
+                    }
+                }
+                return;
+            } catch (NumberFormatException e) {
+                System.out.println("Error");
+            }
+        }
+    }
+
+    private void printTurn() {
+        int turn = game.getTurn();
+        renderer.printTurn(game.getTargetBoard(), game.getBoard(turn), viewX[turn - 1], viewY[turn - 1],
+                VIEW_COLUMNS, VIEW_ROWS);
+    }
+
+    private void clearScreen() {
+        System.out.print("Press Enter to Continue.");
+        s.nextLine();
+        renderer.clear();
+    }
+
+    private String getInput_String() {
+        System.out.print("> ");
+        return s.nextLine();
+    }
+
+    private static Fleet loadFleet(GameOptions options) {
+        String source = options.getFleet() != null ? options.getFleet().toString() : options.getShips() + " ships";
+        try {
+            Fleet fleet = options.getFleet() != null ? Fleet.load(options.getFleet()) : Fleet.classic(options.getShips());
+            int side = Math.max(options.getBoardWidth(), options.getBoardHeight());
+            for (int shipClass = 0; shipClass < fleet.getClassCount(); shipClass++) {
+                if (fleet.getCount(shipClass) > 0 && fleet.getLength(shipClass) > side) {
+                    throw new IllegalArgumentException(fleet.getName(shipClass) + " is " + fleet.getLength(shipClass)
+                            + " long but the board is only " + options.getBoardWidth() + "x" + options.getBoardHeight());
+                }
+            }
+            long area = (long) options.getBoardWidth() * options.getBoardHeight();
+            if (fleet.getCellCount() > area) {
+                throw new IllegalArgumentException("the fleet covers " + fleet.getCellCount() + " cells but a "
+                        + options.getBoardWidth() + "x" + options.getBoardHeight() + " board only has " + area);
+            }
+            return fleet;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not load fleet " + source + ": " + e.getMessage());
+            System.exit(1);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package ai;
+
+import objects.Map;
+
+public interface AnytimeSearch extends TargetingStrategy {
+    void begin(Map shots);
+
+    boolean step();
+
+    int getBest();
+}
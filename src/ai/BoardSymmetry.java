@@ -0,0 +1,91 @@
+package ai;
+
+import objects.Map;
+
+public final class BoardSymmetry {
+    public static final int COUNT = 8;
+
+    private static final int[][] FORWARD = new int[COUNT][Map.CELLS];
+    private static final int[][] INVERSE = new int[COUNT][Map.CELLS];
+
+    static {
+        int last = Map.SIZE - 1;
+        for (int t = 0; t < COUNT; t++) {
+            for (int cell = 0; cell < Map.CELLS; cell++) {
+                int x = Map.cellX(cell);
+                int y = Map.cellY(cell);
+                if ((t & 4) != 0) {
+                    int swap = x;
+                    x = y;
+                    y = swap;
+                }
+                if ((t & 1) != 0) x = last - x;
+                if ((t & 2) != 0) y = last - y;
+                int image = Map.cell(x, y);
+                FORWARD[t][cell] = image;
+                INVERSE[t][image] = cell;
+            }
+        }
+    }
+
+    private BoardSymmetry() {
+    }
+
+    public static int apply(int transform, int cell) {
+        return FORWARD[transform][cell];
+    }
+
+    public static int invert(int transform, int cell) {
+        return INVERSE[transform][cell];
+    }
+
+    public static void apply(int transform, long low, long high, long[] out, int offset) {
+        int[] forward = FORWARD[transform];
+        long outLow = 0;
+        long outHigh = 0;
+        for (long bits = low; bits != 0; bits &= bits - 1) {
+            int image = forward[Long.numberOfTrailingZeros(bits)];
+            if (image < 64) outLow |= 1L << image;
+            else outHigh |= 1L << (image - 64);
+        }
+        for (long bits = high; bits != 0; bits &= bits - 1) {
+            int image = forward[64 + Long.numberOfTrailingZeros(bits)];
+            if (image < 64) outLow |= 1L << image;
+            else outHigh |= 1L << (image - 64);
+        }
+        out[offset] = outLow;
+        out[offset + 1] = outHigh;
+    }
+
+    public static int canonical(long hitsLow, long hitsHigh, long missesLow, long missesHigh, long[] out) {
+        long[] candidate = new long[4];
+        int best = 0;
+        for (int t = 0; t < COUNT; t++) {
+            apply(t, hitsLow, hitsHigh, candidate, 0);
+            apply(t, missesLow, missesHigh, candidate, 2);
+            if (t == 0 || compare(candidate, out) < 0) {
+                System.arraycopy(candidate, 0, out, 0, 4);
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    public static long key(long[] state) {
+        long h = 0x9e3779b97f4a7c15L;
+        for (long word : state) {
+            h ^= word;
+            h *= 0xbf58476d1ce4e5b9L;
+            h ^= h >>> 31;
+        }
+        return h;
+    }
+
+    private static int compare(long[] a, long[] b) {
+        for (int i = 0; i < 4; i++) {
+            int c = Long.compareUnsigned(a[i], b[i]);
+            if (c != 0) return c;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,53 @@
+package ai;
+
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Ship;
+import java.util.List;
+
+public class BookTargeter implements TargetingStrategy {
+    private final OpeningBook book;
+    private final TargetingStrategy fallback;
+    private boolean sunk;
+    private long bookMoves;
+
+    public BookTargeter(OpeningBook book, TargetingStrategy fallback) {
+        this.book = book;
+        this.fallback = fallback;
+    }
+
+    public long getBookMoves() {
+        return bookMoves;
+    }
+
+    @Override
+    public void reset() {
+        fallback.reset();
+        sunk = false;
+    }
+
+    @Override
+    public void load(Map shots, List<Ship> sunk) {
+        fallback.load(shots, sunk);
+        this.sunk = !sunk.isEmpty();
+    }
+
+    @Override
+    public int nextShot(Map shots) {
+        if (!sunk) {
+            int cell = book.lookup(shots);
+            if (cell >= 0 && !shots.isAttacked(cell)) {
+                bookMoves++;
+                return cell;
+            }
+        }
+        return fallback.nextShot(shots);
+    }
+
+    @Override
+    public void onShot(Map shots, int cell, ShotResult result, ShipType type) {
+        fallback.onShot(shots, cell, result, type);
+        if (result == ShotResult.SUNK || result == ShotResult.WIN) sunk = true;
+    }
+}
@@ -0,0 +1,230 @@
+package ai;
+
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Mask;
+import objects.Ship;
+import java.util.Arrays;
+import java.util.List;
+
+public class DensityTargeter implements TargetingStrategy {
+    private static final int MAX_LENGTH = Placements.MAX_LENGTH;
+
+    private final int[] fleetLengths;
+    private final int[] lengths;
+    private final int[] afloat = new int[MAX_LENGTH + 1];
+    private final int[][] blocked = new int[MAX_LENGTH + 1][];
+    private final int[][] hitCounts = new int[MAX_LENGTH + 1][];
+    private final int[][] huntCounts = new int[MAX_LENGTH + 1][Map.CELLS];
+    private final int[][] targetCounts = new int[MAX_LENGTH + 1][Map.CELLS];
+    private final boolean[] sunkCells = new boolean[Map.CELLS];
+    private final int[] density = new int[Map.CELLS];
+    private int unresolvedHits;
+
+    public DensityTargeter() {
+        this(defaultFleet());
+    }
+
+    public DensityTargeter(int[] fleetLengths) {
+        this.fleetLengths = fleetLengths.clone();
+        this.lengths = Arrays.stream(fleetLengths).distinct().toArray();
+        for (int length : lengths) {
+            blocked[length] = new int[Placements.count(length)];
+            hitCounts[length] = new int[Placements.count(length)];
+        }
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(afloat, 0);
+        for (int length : fleetLengths) afloat[length]++;
+        for (int length : lengths) {
+            Arrays.fill(blocked[length], 0);
+            Arrays.fill(hitCounts[length], 0);
+            Arrays.fill(huntCounts[length], 0);
+            Arrays.fill(targetCounts[length], 0);
+            for (int cell : Placements.cells(length)) huntCounts[length][cell]++;
+        }
+        Arrays.fill(sunkCells, false);
+        unresolvedHits = 0;
+    }
+
+    @Override
+    public void load(Map shots, List<Ship> sunk) {
+        reset();
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            if (shots.isMiss(cell)) applyMiss(cell);
+            else if (shots.isHit(cell)) applyHit(cell);
+        }
+        Mask mask = new Mask();
+        for (Ship ship : sunk) {
+            int length = ship.getLength();
+            if (afloat[length] > 0) afloat[length]--;
+            ship.getMask(mask);
+            for (int placement : Placements.byCell(length, mask.nextSetBit(0))) {
+                if (Placements.low(length, placement) == mask.getLow()
+                        && Placements.high(length, placement) == mask.getHigh()) {
+                    sink(length, placement);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int nextShot(Map shots) {
+        computeDensity(shots);
+        int best = -1;
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            if (shots.isAttacked(cell)) continue;
+            if (best < 0 || density[cell] > density[best]) best = cell;
+        }
+        return best;
+    }
+
+    @Override
+    public void onShot(Map shots, int cell, ShotResult result, ShipType type) {
+        switch (result) {
+            case MISS -> applyMiss(cell);
+            case HIT -> applyHit(cell);
+            case SUNK, WIN -> {
+                applyHit(cell);
+                applySunk(cell, type.getLength());
+            }
+            default -> {
+            }
+        }
+    }
+
+    public int getDensity(Map shots, int cell) {
+        computeDensity(shots);
+        return density[cell];
+    }
+
+    public int[] getDensity(Map shots, int[] out) {
+        computeDensity(shots);
+        System.arraycopy(density, 0, out, 0, Map.CELLS);
+        return out;
+    }
+
+    public int[] getLikelihood(Map shots, int[] out) {
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            int sum = 0;
+            if (!shots.isAttacked(cell)) {
+                for (int length : lengths) sum += afloat[length] * (huntCounts[length][cell] + targetCounts[length][cell]);
+            }
+            out[cell] = sum;
+        }
+        return out;
+    }
+
+    public int[] getLengths() {
+        return lengths;
+    }
+
+    public int getAfloat(int length) {
+        return afloat[length];
+    }
+
+    public Mask getSunk(Mask out) {
+        out.clear();
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            if (sunkCells[cell]) out.set(cell);
+        }
+        return out;
+    }
+
+    public boolean isTargeting() {
+        return unresolvedHits > 0;
+    }
+
+    private void computeDensity(Map shots) {
+        boolean target = unresolvedHits > 0 && fillDensity(targetCounts, shots);
+        if (!target) fillDensity(huntCounts, shots);
+    }
+
+    private boolean fillDensity(int[][] counts, Map shots) {
+        boolean any = false;
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            int sum = 0;
+            if (!shots.isAttacked(cell)) {
+                for (int length : lengths) sum += afloat[length] * counts[length][cell];
+            }
+            density[cell] = sum;
+            if (sum != 0) any = true;
+        }
+        return any;
+    }
+
+    private void applyMiss(int cell) {
+        for (int length : lengths) {
+            for (int placement : Placements.byCell(length, cell)) block(length, placement);
+        }
+    }
+
+    private void applyHit(int cell) {
+        unresolvedHits++;
+        for (int length : lengths) {
+            for (int placement : Placements.byCell(length, cell)) {
+                hitCounts[length][placement]++;
+                if (blocked[length][placement] != 0) continue;
+                for (int i = 0; i < length; i++) targetCounts[length][Placements.cell(length, placement, i)]++;
+            }
+        }
+    }
+
+    private void applySunk(int cell, int shipLength) {
+        if (afloat[shipLength] > 0) afloat[shipLength]--;
+        int sunkPlacement = -1;
+        for (int placement : Placements.byCell(shipLength, cell)) {
+            if (hitCounts[shipLength][placement] == shipLength && !containsSunk(shipLength, placement)) {
+                sunkPlacement = placement;
+                break;
+            }
+        }
+        if (sunkPlacement >= 0) sink(shipLength, sunkPlacement);
+    }
+
+    private void sink(int shipLength, int sunkPlacement) {
+        for (int i = 0; i < shipLength; i++) {
+            int sunk = Placements.cell(shipLength, sunkPlacement, i);
+            sunkCells[sunk] = true;
+            unresolvedHits--;
+            for (int length : lengths) {
+                for (int placement : Placements.byCell(length, sunk)) {
+                    block(length, placement);
+                    hitCounts[length][placement]--;
+                }
+            }
+        }
+    }
+
+    private boolean containsSunk(int length, int placement) {
+        for (int i = 0; i < length; i++) {
+            if (sunkCells[Placements.cell(length, placement, i)]) return true;
+        }
+        return false;
+    }
+
+    private void block(int length, int placement) {
+        if (blocked[length][placement]++ != 0) return;
+        int hits = hitCounts[length][placement];
+        for (int i = 0; i < length; i++) {
+            int cell = Placements.cell(length, placement, i);
+            huntCounts[length][cell]--;
+            targetCounts[length][cell] -= hits;
+        }
+    }
+
+    private static int[] defaultFleet() {
+        ShipType[] types = ShipType.values();
+        int[] lengths = new int[types.length - 1];
+        int i = 0;
+        for (ShipType type : types) {
+            if (type != ShipType.NONE) lengths[i++] = type.getLength();
+        }
+        return lengths;
+    }
+}
@@ -0,0 +1,532 @@
+package ai;
+
+import enums.ShipType;
+import objects.Map;
+import objects.Mask;
+import java.util.Arrays;
+
+public class EndgameSolver {
+    public static final long DEFAULT_NODE_BUDGET = 250_000;
+    public static final int EXACT_LAYOUTS = 64;
+    public static final int OPTIMAL_LAYOUTS = 8;
+
+    private static final int MAX_SHIPS = ShipType.values().length - 1;
+    private static final int TABLE_SIZE = 1 << 15;
+    private static final int TABLE_MASK = TABLE_SIZE - 1;
+    private static final int PROBES = 8;
+    private static final int BUCKETS = 2 * MAX_SHIPS + 1;
+
+    private final long nodeBudget;
+
+    private final int[] lengths = new int[MAX_SHIPS];
+    private final long[][] candidateLow = new long[MAX_SHIPS][];
+    private final long[][] candidateHigh = new long[MAX_SHIPS][];
+    private final int[] candidateCount = new int[MAX_SHIPS];
+    private final long[] relevantLow = new long[MAX_SHIPS + 1];
+    private final long[] relevantHigh = new long[MAX_SHIPS + 1];
+    private final int[] remaining = new int[MAX_SHIPS + 1];
+    private int shipCount;
+    private long needLow;
+    private long needHigh;
+
+    private final long[] tableLow = new long[TABLE_SIZE];
+    private final long[] tableHigh = new long[TABLE_SIZE];
+    private final long[] tableTag = new long[TABLE_SIZE];
+    private final long[] tableCount = new long[TABLE_SIZE];
+    private long stamp;
+
+    private final long[][] levelLow = new long[2][TABLE_SIZE];
+    private final long[][] levelHigh = new long[2][TABLE_SIZE];
+    private final long[][] levelWeight = new long[2][TABLE_SIZE];
+    private final int[][] levelSlots = new int[2][TABLE_SIZE];
+    private final int[] levelSize = new int[2];
+
+    private final long[] marginals = new long[Map.CELLS];
+    private long total;
+    private long nodes;
+    private long deadline;
+    private boolean aborted;
+
+    private final long[][] layoutShipLow = new long[EXACT_LAYOUTS][MAX_SHIPS];
+    private final long[][] layoutShipHigh = new long[EXACT_LAYOUTS][MAX_SHIPS];
+    private final long[] layoutLow = new long[EXACT_LAYOUTS];
+    private final long[] layoutHigh = new long[EXACT_LAYOUTS];
+    private final long[] stackLow = new long[MAX_SHIPS];
+    private final long[] stackHigh = new long[MAX_SHIPS];
+    private final long[][] buckets = new long[Map.CELLS + 1][BUCKETS];
+    private final int[][] cellOrder = new int[Map.CELLS + 1][Map.CELLS];
+    private final int[][] cellFrequency = new int[Map.CELLS + 1][Map.CELLS];
+    private int layoutCount;
+    private long layoutCellsLow;
+    private long layoutCellsHigh;
+
+    private final long[] memoSubset = new long[TABLE_SIZE];
+    private final long[] memoLow = new long[TABLE_SIZE];
+    private final long[] memoHigh = new long[TABLE_SIZE];
+    private final long[] memoTag = new long[TABLE_SIZE];
+    private final double[] memoValue = new double[TABLE_SIZE];
+
+    private double expectedShots;
+    private boolean optimal;
+    private int bestCell;
+    private long shotsLow;
+    private long shotsHigh;
+
+    public EndgameSolver() {
+        this(DEFAULT_NODE_BUDGET);
+    }
+
+    public EndgameSolver(long nodeBudget) {
+        this.nodeBudget = nodeBudget;
+        for (int i = 0; i < MAX_SHIPS; i++) {
+            candidateLow[i] = new long[Placements.count(1)];
+            candidateHigh[i] = new long[Placements.count(1)];
+        }
+    }
+
+    public boolean solve(Map shots, ShipType[] afloat, int count, Mask sunk, long timeBudgetNanos) {
+        deadline = System.nanoTime() + timeBudgetNanos;
+        nodes = 0;
+        aborted = false;
+        total = 0;
+        layoutCount = 0;
+        expectedShots = Double.NaN;
+        optimal = false;
+        bestCell = -1;
+        Arrays.fill(marginals, 0);
+        stamp++;
+
+        shotsLow = shots.getHitsLow() | shots.getMissesLow();
+        shotsHigh = shots.getHitsHigh() | shots.getMissesHigh();
+        long blockedLow = shots.getMissesLow() | sunk.getLow();
+        long blockedHigh = shots.getMissesHigh() | sunk.getHigh();
+        needLow = shots.getHitsLow() & ~sunk.getLow();
+        needHigh = shots.getHitsHigh() & ~sunk.getHigh();
+
+        shipCount = 0;
+        for (int i = 0; i < count; i++) {
+            int j = shipCount++;
+            while (j > 0 && lengths[j - 1] < afloat[i].getLength()) {
+                lengths[j] = lengths[j - 1];
+                j--;
+            }
+            lengths[j] = afloat[i].getLength();
+        }
+        for (int i = 0; i < shipCount; i++) {
+            int length = lengths[i];
+            int placements = Placements.count(length);
+            int n = 0;
+            for (int p = 0; p < placements; p++) {
+                long low = Placements.low(length, p);
+                long high = Placements.high(length, p);
+                if ((low & blockedLow) != 0 || (high & blockedHigh) != 0) continue;
+                candidateLow[i][n] = low;
+                candidateHigh[i][n++] = high;
+            }
+            candidateCount[i] = n;
+        }
+        relevantLow[shipCount] = 0;
+        relevantHigh[shipCount] = 0;
+        remaining[shipCount] = 0;
+        for (int d = shipCount - 1; d >= 0; d--) {
+            long low = relevantLow[d + 1];
+            long high = relevantHigh[d + 1];
+            for (int p = 0; p < candidateCount[d]; p++) {
+                low |= candidateLow[d][p];
+                high |= candidateHigh[d][p];
+            }
+            relevantLow[d] = low;
+            relevantHigh[d] = high;
+            remaining[d] = remaining[d + 1] + lengths[d];
+        }
+
+        total = completions(0, 0, 0);
+        if (aborted || total == 0) return false;
+        accumulateMarginals();
+        if (aborted) return false;
+        if (total <= EXACT_LAYOUTS) solveExpectation();
+        return true;
+    }
+
+    public long getLayouts() {
+        return total;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public double getProbability(int cell) {
+        return total == 0 ? 0 : (double) marginals[cell] / total;
+    }
+
+    public long[] getCounts(long[] out) {
+        System.arraycopy(marginals, 0, out, 0, Map.CELLS);
+        return out;
+    }
+
+    public double getExpectedShots() {
+        return expectedShots;
+    }
+
+    public boolean isOptimal() {
+        return optimal;
+    }
+
+    public int getBestCell() {
+        if (bestCell >= 0) return bestCell;
+        int best = -1;
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            if (isShot(cell) || marginals[cell] == 0) continue;
+            if (best < 0 || marginals[cell] > marginals[best]) best = cell;
+        }
+        return best;
+    }
+
+    private boolean isShot(int cell) {
+        return cell < 64 ? (shotsLow & 1L << cell) != 0 : (shotsHigh & 1L << (cell - 64)) != 0;
+    }
+
+    private boolean spend(int clockMask) {
+        if (++nodes > nodeBudget || (nodes & clockMask) == 0 && System.nanoTime() > deadline) aborted = true;
+        return aborted;
+    }
+
+    private long completions(int d, long occupiedLow, long occupiedHigh) {
+        long uncoveredLow = needLow & ~occupiedLow;
+        long uncoveredHigh = needHigh & ~occupiedHigh;
+        if (d == shipCount) return (uncoveredLow | uncoveredHigh) == 0 ? 1 : 0;
+        if ((uncoveredLow & ~relevantLow[d]) != 0 || (uncoveredHigh & ~relevantHigh[d]) != 0) return 0;
+        if (Long.bitCount(uncoveredLow) + Long.bitCount(uncoveredHigh) > remaining[d]) return 0;
+
+        long keyLow = occupiedLow & relevantLow[d];
+        long keyHigh = occupiedHigh & relevantHigh[d];
+        long tag = stamp << 8 | d;
+        int start = hash(tag, keyLow, keyHigh);
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & TABLE_MASK;
+            if (tableTag[slot] == tag && tableLow[slot] == keyLow && tableHigh[slot] == keyHigh) return tableCount[slot];
+        }
+        if (spend(255)) return 0;
+
+        long sum = 0;
+        long[] lows = candidateLow[d];
+        long[] highs = candidateHigh[d];
+        for (int p = 0; p < candidateCount[d]; p++) {
+            if ((lows[p] & occupiedLow) != 0 || (highs[p] & occupiedHigh) != 0) continue;
+            sum += completions(d + 1, occupiedLow | lows[p], occupiedHigh | highs[p]);
+            if (aborted) return 0;
+        }
+
+        int slot = start;
+        for (int i = 0; i < PROBES; i++) {
+            int probe = (start + i) & TABLE_MASK;
+            if (tableTag[probe] != tag) {
+                slot = probe;
+                break;
+            }
+        }
+        tableTag[slot] = tag;
+        tableLow[slot] = keyLow;
+        tableHigh[slot] = keyHigh;
+        tableCount[slot] = sum;
+        return sum;
+    }
+
+    private void accumulateMarginals() {
+        int current = 0;
+        clearLevel(current);
+        addLevel(current, 0, 0, 1);
+        for (int d = 0; d < shipCount && !aborted; d++) {
+            int next = current ^ 1;
+            clearLevel(next);
+            long[] lows = candidateLow[d];
+            long[] highs = candidateHigh[d];
+            for (int e = 0; e < levelSize[current]; e++) {
+                if (System.nanoTime() > deadline) {
+                    aborted = true;
+                    return;
+                }
+                int entry = levelSlots[current][e];
+                long low = levelLow[current][entry];
+                long high = levelHigh[current][entry];
+                long weight = levelWeight[current][entry];
+                for (int p = 0; p < candidateCount[d]; p++) {
+                    if ((lows[p] & low) != 0 || (highs[p] & high) != 0) continue;
+                    long nextLow = low | lows[p];
+                    long nextHigh = high | highs[p];
+                    long ways = completions(d + 1, nextLow, nextHigh);
+                    if (aborted) return;
+                    if (ways == 0) continue;
+                    addCells(lows[p], highs[p], weight * ways);
+                    if (d + 1 < shipCount) {
+                        long keyLow = nextLow & relevantLow[d + 1] | needLow & ~relevantLow[d + 1];
+                        long keyHigh = nextHigh & relevantHigh[d + 1] | needHigh & ~relevantHigh[d + 1];
+                        if (!addLevel(next, keyLow, keyHigh, weight)) {
+                            aborted = true;
+                            return;
+                        }
+                    }
+                }
+            }
+            current = next;
+        }
+    }
+
+    private void addCells(long low, long high, long ways) {
+        while (low != 0) {
+            marginals[Long.numberOfTrailingZeros(low)] += ways;
+            low &= low - 1;
+        }
+        while (high != 0) {
+            marginals[64 + Long.numberOfTrailingZeros(high)] += ways;
+            high &= high - 1;
+        }
+    }
+
+    private void clearLevel(int level) {
+        long[] weights = levelWeight[level];
+        int[] slots = levelSlots[level];
+        for (int i = 0; i < levelSize[level]; i++) weights[slots[i]] = 0;
+        levelSize[level] = 0;
+    }
+
+    private boolean addLevel(int level, long low, long high, long weight) {
+        long[] lows = levelLow[level];
+        long[] highs = levelHigh[level];
+        long[] weights = levelWeight[level];
+        int slot = hash(level, low, high);
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            if (weights[slot] == 0) {
+                if (levelSize[level] == TABLE_SIZE / 2) return false;
+                lows[slot] = low;
+                highs[slot] = high;
+                weights[slot] = weight;
+                levelSlots[level][levelSize[level]++] = slot;
+                return true;
+            }
+            if (lows[slot] == low && highs[slot] == high) {
+                weights[slot] += weight;
+                return true;
+            }
+            slot = (slot + 1) & TABLE_MASK;
+        }
+        return false;
+    }
+
+    private void solveExpectation() {
+        layoutCount = 0;
+        enumerate(0, 0, 0);
+        if (aborted) {
+            aborted = false;
+            return;
+        }
+        layoutCellsLow = 0;
+        layoutCellsHigh = 0;
+        for (int l = 0; l < layoutCount; l++) {
+            layoutCellsLow |= layoutLow[l];
+            layoutCellsHigh |= layoutHigh[l];
+        }
+        long all = layoutCount == 64 ? -1L : (1L << layoutCount) - 1;
+        if (layoutCount <= OPTIMAL_LAYOUTS) {
+            long now = System.nanoTime();
+            deadline = now + Math.max(deadline - now, 0) / 2;
+            double expected = expect(all, shotsLow, shotsHigh, 0);
+            if (!aborted) {
+                expectedShots = expected;
+                optimal = true;
+                return;
+            }
+            aborted = false;
+            bestCell = -1;
+        }
+        expectedShots = expectGreedy(all, shotsLow, shotsHigh, 0);
+    }
+
+    private void enumerate(int d, long occupiedLow, long occupiedHigh) {
+        if (d == shipCount) {
+            if ((needLow & ~occupiedLow) != 0 || (needHigh & ~occupiedHigh) != 0) return;
+            int l = layoutCount++;
+            for (int i = 0; i < shipCount; i++) {
+                layoutShipLow[l][i] = stackLow[i];
+                layoutShipHigh[l][i] = stackHigh[i];
+            }
+            layoutLow[l] = occupiedLow;
+            layoutHigh[l] = occupiedHigh;
+            return;
+        }
+        long[] lows = candidateLow[d];
+        long[] highs = candidateHigh[d];
+        for (int p = 0; p < candidateCount[d]; p++) {
+            if ((lows[p] & occupiedLow) != 0 || (highs[p] & occupiedHigh) != 0) continue;
+            long nextLow = occupiedLow | lows[p];
+            long nextHigh = occupiedHigh | highs[p];
+            if (completions(d + 1, nextLow, nextHigh) == 0 || aborted) continue;
+            stackLow[d] = lows[p];
+            stackHigh[d] = highs[p];
+            enumerate(d + 1, nextLow, nextHigh);
+            if (aborted || layoutCount == EXACT_LAYOUTS) return;
+        }
+    }
+
+    private double expect(long subset, long shotLow, long shotHigh, int depth) {
+        int size = Long.bitCount(subset);
+        long openLow = 0;
+        long openHigh = 0;
+        for (long bits = subset; bits != 0; bits &= bits - 1) {
+            int l = Long.numberOfTrailingZeros(bits);
+            openLow |= layoutLow[l] & ~shotLow;
+            openHigh |= layoutHigh[l] & ~shotHigh;
+        }
+        if ((openLow | openHigh) == 0) return 0;
+        if (size == 1) {
+            if (depth == 0) bestCell = openLow != 0 ? Long.numberOfTrailingZeros(openLow) : 64 + Long.numberOfTrailingZeros(openHigh);
+            return Long.bitCount(openLow) + Long.bitCount(openHigh);
+        }
+
+        long keyLow = shotLow & layoutCellsLow;
+        long keyHigh = shotHigh & layoutCellsHigh;
+        int start = hash(subset, keyLow, keyHigh);
+        if (depth > 0) {
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (start + i) & TABLE_MASK;
+                if (memoTag[slot] == stamp && memoSubset[slot] == subset && memoLow[slot] == keyLow
+                        && memoHigh[slot] == keyHigh) {
+                    return memoValue[slot];
+                }
+            }
+        }
+        if (spend(0)) return Double.NaN;
+
+        int[] order = cellOrder[depth];
+        int[] frequency = cellFrequency[depth];
+        int cells = 0;
+        for (int half = 0; half < 2; half++) {
+            for (long open = half == 0 ? openLow : openHigh; open != 0; open &= open - 1) {
+                int bit = Long.numberOfTrailingZeros(open);
+                int count = 0;
+                for (long bits = subset; bits != 0; bits &= bits - 1) {
+                    int l = Long.numberOfTrailingZeros(bits);
+                    if (((half == 0 ? layoutLow[l] : layoutHigh[l]) & 1L << bit) != 0) count++;
+                }
+                int i = cells++;
+                while (i > 0 && frequency[i - 1] < count) {
+                    order[i] = order[i - 1];
+                    frequency[i] = frequency[i - 1];
+                    i--;
+                }
+                order[i] = half * 64 + bit;
+                frequency[i] = count;
+            }
+        }
+        if (frequency[0] == size) cells = 1;
+
+        double best = Double.POSITIVE_INFINITY;
+        int bestShot = -1;
+        long[] bucket = buckets[depth];
+        for (int i = 0; i < cells; i++) {
+            int cell = order[i];
+            long cellLow = cell < 64 ? 1L << cell : 0;
+            long cellHigh = cell < 64 ? 0 : 1L << (cell - 64);
+            long nextLow = shotLow | cellLow;
+            long nextHigh = shotHigh | cellHigh;
+            Arrays.fill(bucket, 0);
+            double lower = 0;
+            for (long bits = subset; bits != 0; bits &= bits - 1) {
+                int l = Long.numberOfTrailingZeros(bits);
+                lower += Long.bitCount(layoutLow[l] & ~nextLow) + Long.bitCount(layoutHigh[l] & ~nextHigh);
+                bucket[outcome(l, cellLow, cellHigh, nextLow, nextHigh)] |= 1L << l;
+            }
+            if (1 + lower / size >= best) continue;
+            double sum = lower;
+            for (int b = 0; b < BUCKETS; b++) {
+                long branch = bucket[b];
+                if (branch == 0) continue;
+                double branchLower = 0;
+                for (long bits = branch; bits != 0; bits &= bits - 1) {
+                    int l = Long.numberOfTrailingZeros(bits);
+                    branchLower += Long.bitCount(layoutLow[l] & ~nextLow) + Long.bitCount(layoutHigh[l] & ~nextHigh);
+                }
+                double value = expect(branch, nextLow, nextHigh, depth + 1);
+                if (aborted) return Double.NaN;
+                sum += Long.bitCount(branch) * value - branchLower;
+                if (1 + sum / size >= best) break;
+            }
+            double value = 1 + sum / size;
+            if (value < best) {
+                best = value;
+                bestShot = cell;
+            }
+        }
+        if (depth == 0) bestCell = bestShot;
+
+        int slot = start;
+        for (int i = 0; i < PROBES; i++) {
+            int probe = (start + i) & TABLE_MASK;
+            if (memoTag[probe] != stamp) {
+                slot = probe;
+                break;
+            }
+        }
+        memoTag[slot] = stamp;
+        memoSubset[slot] = subset;
+        memoLow[slot] = keyLow;
+        memoHigh[slot] = keyHigh;
+        memoValue[slot] = best;
+        return best;
+    }
+
+    private double expectGreedy(long subset, long shotLow, long shotHigh, int depth) {
+        int size = Long.bitCount(subset);
+        int best = -1;
+        int bestCount = 0;
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            long cellLow = cell < 64 ? 1L << cell : 0;
+            long cellHigh = cell < 64 ? 0 : 1L << (cell - 64);
+            if ((shotLow & cellLow) != 0 || (shotHigh & cellHigh) != 0) continue;
+            int count = 0;
+            for (long bits = subset; bits != 0; bits &= bits - 1) {
+                int l = Long.numberOfTrailingZeros(bits);
+                if ((layoutLow[l] & cellLow) != 0 || (layoutHigh[l] & cellHigh) != 0) count++;
+            }
+            if (count > bestCount) {
+                best = cell;
+                bestCount = count;
+            }
+        }
+        if (best < 0) return 0;
+        long cellLow = best < 64 ? 1L << best : 0;
+        long cellHigh = best < 64 ? 0 : 1L << (best - 64);
+        long nextLow = shotLow | cellLow;
+        long nextHigh = shotHigh | cellHigh;
+        long[] bucket = buckets[depth];
+        Arrays.fill(bucket, 0);
+        for (long bits = subset; bits != 0; bits &= bits - 1) {
+            int l = Long.numberOfTrailingZeros(bits);
+            bucket[outcome(l, cellLow, cellHigh, nextLow, nextHigh)] |= 1L << l;
+        }
+        double sum = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            long branch = bucket[b];
+            if (branch != 0) sum += Long.bitCount(branch) * expectGreedy(branch, nextLow, nextHigh, depth + 1);
+        }
+        return 1 + sum / size;
+    }
+
+    private int outcome(int layout, long cellLow, long cellHigh, long shotLow, long shotHigh) {
+        for (int k = 0; k < shipCount; k++) {
+            long shipLow = layoutShipLow[layout][k];
+            long shipHigh = layoutShipHigh[layout][k];
+            if ((shipLow & cellLow) == 0 && (shipHigh & cellHigh) == 0) continue;
+            boolean sunk = (shipLow & ~shotLow) == 0 && (shipHigh & ~shotHigh) == 0;
+            return 2 * k + (sunk ? 2 : 1);
+        }
+        return 0;
+    }
+
+    private static int hash(long tag, long low, long high) {
+        long h = tag * 0x9e3779b97f4a7c15L ^ low * 0xbf58476d1ce4e5b9L ^ high * 0x94d049bb133111ebL;
+        h ^= h >>> 29;
+        return (int) h & TABLE_MASK;
+    }
+}
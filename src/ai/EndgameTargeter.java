@@ -0,0 +1,95 @@
+package ai;
+
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Mask;
+import objects.Ship;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class EndgameTargeter implements TargetingStrategy {
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+    public static final int DEFAULT_MIN_ATTACKED = 30;
+
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final DensityTargeter density = new DensityTargeter();
+    private final EndgameSolver solver;
+    private final boolean[] sunk = new boolean[SHIP_TYPES.length];
+    private final ShipType[] afloat = new ShipType[SHIP_TYPES.length];
+    private final Mask sunkCells = new Mask();
+    private final long budgetNanos;
+    private final int minAttacked;
+    private long solved;
+    private long fallbacks;
+
+    public EndgameTargeter() {
+        this(DEFAULT_BUDGET_NANOS, DEFAULT_MIN_ATTACKED);
+    }
+
+    public EndgameTargeter(EndgameSolver solver) {
+        this(solver, DEFAULT_BUDGET_NANOS, DEFAULT_MIN_ATTACKED);
+    }
+
+    public EndgameTargeter(long budgetNanos, int minAttacked) {
+        this(new EndgameSolver(), budgetNanos, minAttacked);
+    }
+
+    public EndgameTargeter(EndgameSolver solver, long budgetNanos, int minAttacked) {
+        this.solver = solver;
+        this.budgetNanos = budgetNanos;
+        this.minAttacked = minAttacked;
+    }
+
+    public EndgameSolver getSolver() {
+        return solver;
+    }
+
+    public long getSolved() {
+        return solved;
+    }
+
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    @Override
+    public void reset() {
+        density.reset();
+        Arrays.fill(sunk, false);
+    }
+
+    @Override
+    public void load(Map shots, List<Ship> sunk) {
+        density.load(shots, sunk);
+        Arrays.fill(this.sunk, false);
+        for (Ship ship : sunk) this.sunk[ship.getType().ordinal()] = true;
+    }
+
+    @Override
+    public int nextShot(Map shots) {
+        if (shots.getAttackedCount() >= minAttacked) {
+            int count = 0;
+            for (ShipType type : SHIP_TYPES) {
+                if (type != ShipType.NONE && !sunk[type.ordinal()]) afloat[count++] = type;
+            }
+            if (solver.solve(shots, afloat, count, density.getSunk(sunkCells), budgetNanos)) {
+                int cell = solver.getBestCell();
+                if (cell >= 0) {
+                    solved++;
+                    return cell;
+                }
+            }
+            fallbacks++;
+        }
+        return density.nextShot(shots);
+    }
+
+    @Override
+    public void onShot(Map shots, int cell, ShotResult result, ShipType type) {
+        density.onShot(shots, cell, result, type);
+        if (result == ShotResult.SUNK || result == ShotResult.WIN) sunk[type.ordinal()] = true;
+    }
+}
@@ -0,0 +1,266 @@
+package ai;
+
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Mask;
+import objects.Ship;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class MonteCarloTargeter implements AnytimeSearch {
+    public static final int STEP_SAMPLES = 64;
+
+    private static final int PLACEMENT_TRIES = 64;
+
+    private final DensityTargeter density = new DensityTargeter();
+    private final ForkJoinPool pool;
+    private final int samples;
+    private final Sampler[] samplers;
+    private final ForkJoinTask<?>[] tasks;
+    private final int[] counts = new int[Map.CELLS];
+    private final Mask scratch = new Mask();
+    private final Mask attacked = new Mask();
+
+    private long blockedLow;
+    private long blockedHigh;
+    private long hitsLow;
+    private long hitsHigh;
+    private int[] fleet = new int[0];
+    private int accepted;
+    private int searched;
+
+    public MonteCarloTargeter(int samples) {
+        this(samples, ForkJoinPool.commonPool(), System.nanoTime());
+    }
+
+    public MonteCarloTargeter(int samples, ForkJoinPool pool, long seed) {
+        this.pool = pool;
+        this.samples = samples;
+        samplers = new Sampler[pool.getParallelism()];
+        tasks = new ForkJoinTask<?>[samplers.length];
+        int fleetSize = 0;
+        for (int length : density.getLengths()) fleetSize += density.getAfloat(length);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < samplers.length; i++) samplers[i] = new Sampler(random.split(), fleetSize);
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    @Override
+    public void reset() {
+        density.reset();
+    }
+
+    @Override
+    public void load(Map shots, List<Ship> sunk) {
+        density.load(shots, sunk);
+    }
+
+    @Override
+    public int nextShot(Map shots) {
+        prepare(shots);
+        int perSampler = (samples + samplers.length - 1) / samplers.length;
+        for (int i = 0; i < samplers.length; i++) {
+            Sampler sampler = samplers[i];
+            tasks[i] = pool.submit(() -> sampler.run(perSampler));
+        }
+        accepted = 0;
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < samplers.length; i++) {
+            tasks[i].join();
+            accepted += samplers[i].accepted;
+            int[] local = samplers[i].counts;
+            for (int cell = 0; cell < Map.CELLS; cell++) counts[cell] += local[cell];
+        }
+        if (accepted == 0) return density.nextShot(shots);
+
+        int best = -1;
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            if (shots.isAttacked(cell)) continue;
+            if (best < 0 || counts[cell] > counts[best]) best = cell;
+        }
+        return best;
+    }
+
+    @Override
+    public void begin(Map shots) {
+        prepare(shots);
+        shots.getAttacked(attacked);
+        accepted = 0;
+        searched = 0;
+        Arrays.fill(counts, 0);
+    }
+
+    @Override
+    public boolean step() {
+        Sampler sampler = samplers[0];
+        int budget = Math.min(STEP_SAMPLES, samples - searched);
+        sampler.run(budget);
+        searched += budget;
+        accepted += sampler.accepted;
+        for (int cell = 0; cell < Map.CELLS; cell++) counts[cell] += sampler.counts[cell];
+        return searched < samples;
+    }
+
+    @Override
+    public int getBest() {
+        if (accepted == 0) return -1;
+        int best = -1;
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            if (attacked.get(cell)) continue;
+            if (best < 0 || counts[cell] > counts[best]) best = cell;
+        }
+        return best;
+    }
+
+    @Override
+    public void onShot(Map shots, int cell, ShotResult result, ShipType type) {
+        density.onShot(shots, cell, result, type);
+    }
+
+    public int getSearched() {
+        return searched;
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public int[] getCounts(int[] out) {
+        System.arraycopy(counts, 0, out, 0, Map.CELLS);
+        return out;
+    }
+
+    private void prepare(Map shots) {
+        Mask sunk = density.getSunk(scratch);
+        long sunkLow = sunk.getLow();
+        long sunkHigh = sunk.getHigh();
+        shots.getMisses(scratch);
+        blockedLow = scratch.getLow() | sunkLow;
+        blockedHigh = scratch.getHigh() | sunkHigh;
+        shots.getHits(scratch);
+        hitsLow = scratch.getLow() & ~sunkLow;
+        hitsHigh = scratch.getHigh() & ~sunkHigh;
+        int afloat = 0;
+        for (int length : density.getLengths()) afloat += density.getAfloat(length);
+        if (fleet.length != afloat) fleet = new int[afloat];
+        int i = 0;
+        for (int length : density.getLengths()) {
+            for (int n = 0; n < density.getAfloat(length); n++) fleet[i++] = length;
+        }
+    }
+
+    private final class Sampler {
+        private final SplittableRandom random;
+        private final int[] counts = new int[Map.CELLS];
+        private final int[] remaining;
+        private final int[] candidateShips;
+        private final int[] candidatePlacements;
+        private int accepted;
+
+        private Sampler(SplittableRandom random, int fleetSize) {
+            this.random = random;
+            remaining = new int[fleetSize];
+            candidateShips = new int[fleetSize * 2 * Placements.MAX_LENGTH];
+            candidatePlacements = new int[candidateShips.length];
+        }
+
+        private void run(int budget) {
+            Arrays.fill(counts, 0);
+            accepted = 0;
+            for (int i = 0; i < budget; i++) sample();
+        }
+
+        private void sample() {
+            int[] fleet = MonteCarloTargeter.this.fleet;
+            int ships = fleet.length;
+            System.arraycopy(fleet, 0, remaining, 0, ships);
+            long occupiedLow = blockedLow;
+            long occupiedHigh = blockedHigh;
+            long uncoveredLow = hitsLow;
+            long uncoveredHigh = hitsHigh;
+            long shipsLow = 0;
+            long shipsHigh = 0;
+
+            while ((uncoveredLow | uncoveredHigh) != 0) {
+                if (ships == 0) return;
+                int hit = randomBit(uncoveredLow, uncoveredHigh);
+                int candidates = 0;
+                for (int s = 0; s < ships; s++) {
+                    int length = remaining[s];
+                    for (int placement : Placements.byCell(length, hit)) {
+                        long low = Placements.low(length, placement);
+                        long high = Placements.high(length, placement);
+                        if ((low & occupiedLow) != 0 || (high & occupiedHigh) != 0) continue;
+                        if ((low & ~hitsLow) == 0 && (high & ~hitsHigh) == 0) continue;
+                        candidateShips[candidates] = s;
+                        candidatePlacements[candidates++] = placement;
+                    }
+                }
+                if (candidates == 0) return;
+                int pick = random.nextInt(candidates);
+                int s = candidateShips[pick];
+                int length = remaining[s];
+                long low = Placements.low(length, candidatePlacements[pick]);
+                long high = Placements.high(length, candidatePlacements[pick]);
+                occupiedLow |= low;
+                occupiedHigh |= high;
+                shipsLow |= low;
+                shipsHigh |= high;
+                uncoveredLow &= ~low;
+                uncoveredHigh &= ~high;
+                remaining[s] = remaining[--ships];
+            }
+
+            for (int s = 0; s < ships; s++) {
+                int length = remaining[s];
+                int count = Placements.count(length);
+                boolean placed = false;
+                for (int t = 0; t < PLACEMENT_TRIES; t++) {
+                    int placement = random.nextInt(count);
+                    long low = Placements.low(length, placement);
+                    long high = Placements.high(length, placement);
+                    if ((low & occupiedLow) != 0 || (high & occupiedHigh) != 0) continue;
+                    occupiedLow |= low;
+                    occupiedHigh |= high;
+                    shipsLow |= low;
+                    shipsHigh |= high;
+                    placed = true;
+                    break;
+                }
+                if (!placed) return;
+            }
+
+            accepted++;
+            long low = shipsLow & ~hitsLow;
+            long high = shipsHigh & ~hitsHigh;
+            while (low != 0) {
+                counts[Long.numberOfTrailingZeros(low)]++;
+                low &= low - 1;
+            }
+            while (high != 0) {
+                counts[64 + Long.numberOfTrailingZeros(high)]++;
+                high &= high - 1;
+            }
+        }
+
+        private int randomBit(long low, long high) {
+            int n = random.nextInt(Long.bitCount(low) + Long.bitCount(high));
+            int lowCount = Long.bitCount(low);
+            if (n >= lowCount) {
+                low = high;
+                n -= lowCount;
+                for (int i = 0; i < n; i++) low &= low - 1;
+                return 64 + Long.numberOfTrailingZeros(low);
+            }
+            for (int i = 0; i < n; i++) low &= low - 1;
+            return Long.numberOfTrailingZeros(low);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package ai;
+
+import enums.ShipType;
+import enums.ShotResult;
+import metrics.SchedulerMetrics;
+import objects.Map;
+import objects.Ship;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class MoveScheduler implements TargetingStrategy, AutoCloseable {
+    public static final long MAX_GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    public static final long DEFAULT_PONDER_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "move-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AnytimeSearch search;
+    private final TargetingStrategy fallback = new DensityTargeter();
+    private final Executor executor;
+    private final long budgetNanos;
+    private final long graceNanos;
+    private final long ponderNanos;
+    private final SchedulerMetrics metrics;
+    private Search current;
+
+    public MoveScheduler(AnytimeSearch search, long budgetNanos) {
+        this(search, WORKERS, budgetNanos, DEFAULT_PONDER_NANOS, new SchedulerMetrics());
+    }
+
+    public MoveScheduler(AnytimeSearch search, Executor executor, long budgetNanos, long ponderNanos,
+                         SchedulerMetrics metrics) {
+        this.search = search;
+        this.executor = executor;
+        this.budgetNanos = budgetNanos;
+        this.graceNanos = Math.min(MAX_GRACE_NANOS, budgetNanos / 4);
+        this.ponderNanos = ponderNanos;
+        this.metrics = metrics;
+    }
+
+    public static Executor workers() {
+        return WORKERS;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    public SchedulerMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void reset() {
+        finish();
+        search.reset();
+        fallback.reset();
+    }
+
+    @Override
+    public void load(Map shots, List<Ship> sunk) {
+        finish();
+        search.load(shots, sunk);
+        fallback.load(shots, sunk);
+    }
+
+    @Override
+    public int nextShot(Map shots) {
+        long start = System.nanoTime();
+        long stopAt = start + budgetNanos - graceNanos;
+        Search running = current;
+        if (running != null && running.matches(shots)) {
+            metrics.recordPonderHit();
+            running.deadline = stopAt;
+            if (running.isDone() && !running.complete) running = resume(shots, stopAt);
+        } else {
+            running = begin(shots, stopAt);
+        }
+        await(running, stopAt - System.nanoTime());
+        running.stop = true;
+        if (!await(running, start + budgetNanos - System.nanoTime())) metrics.recordOverrun();
+        int cell = running.best;
+        if (cell < 0 || shots.isAttacked(cell)) {
+            metrics.recordFallback();
+            cell = fallback.nextShot(shots);
+        }
+        long elapsed = System.nanoTime() - start;
+        metrics.recordMove(elapsed, elapsed > budgetNanos);
+        return cell;
+    }
+
+    @Override
+    public void onShot(Map shots, int cell, ShotResult result, ShipType type) {
+        finish();
+        search.onShot(shots, cell, result, type);
+        fallback.onShot(shots, cell, result, type);
+        if (ponderNanos > 0 && result != ShotResult.WIN) begin(shots, System.nanoTime() + ponderNanos);
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+
+    private Search begin(Map shots, long deadline) {
+        finish();
+        search.begin(shots);
+        return resume(shots, deadline);
+    }
+
+    private Search resume(Map shots, long deadline) {
+        Search running = new Search(shots, deadline);
+        running.best = current != null ? current.best : -1;
+        executor.execute(running);
+        current = running;
+        return running;
+    }
+
+    private void finish() {
+        Search running = current;
+        if (running == null) return;
+        running.stop = true;
+        boolean interrupted = false;
+        while (true) {
+            try {
+                running.done.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        current = null;
+    }
+
+    private static boolean await(Search running, long nanos) {
+        if (nanos <= 0) return running.isDone();
+        try {
+            return running.done.await(nanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private final class Search implements Runnable {
+        private final long hitsLow;
+        private final long hitsHigh;
+        private final long missesLow;
+        private final long missesHigh;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile long deadline;
+        private volatile boolean stop;
+        private volatile boolean complete;
+        private volatile int best = -1;
+
+        private Search(Map shots, long deadline) {
+            this.deadline = deadline;
+            hitsLow = shots.getHitsLow();
+            hitsHigh = shots.getHitsHigh();
+            missesLow = shots.getMissesLow();
+            missesHigh = shots.getMissesHigh();
+        }
+
+        private boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        private boolean matches(Map shots) {
+            return hitsLow == shots.getHitsLow() && hitsHigh == shots.getHitsHigh()
+                    && missesLow == shots.getMissesLow() && missesHigh == shots.getMissesHigh();
+        }
+
+        @Override
+        public void run() {
+            long steps = 0;
+            try {
+                while (!stop && System.nanoTime() - deadline < 0) {
+                    boolean more = search.step();
+                    best = search.getBest();
+                    steps++;
+                    if (!more) {
+                        complete = true;
+                        break;
+                    }
+                }
+            } finally {
+                metrics.recordSteps(steps);
+                done.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ai;
+
+import objects.Map;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class OpeningBook {
+    public static final int MAGIC = 0x4253424b;
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = Integer.BYTES + 1 + 3 * Integer.BYTES;
+
+    private final LongBuffer keys;
+    private final ByteBuffer cells;
+    private final int depth;
+    private final int samples;
+    private final int size;
+
+    public OpeningBook(Path path) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (data.capacity() < HEADER_SIZE || data.getInt() != MAGIC) throw new IOException("Not an opening book");
+        byte version = data.get();
+        if (version != VERSION) throw new IOException("Unsupported opening book version " + version);
+        depth = data.getInt();
+        samples = data.getInt();
+        size = data.getInt();
+        if (data.capacity() != HEADER_SIZE + (long) size * (Long.BYTES + 1)) throw new IOException("Opening book is truncated");
+        keys = data.slice(HEADER_SIZE, size * Long.BYTES).asLongBuffer();
+        cells = data.slice(HEADER_SIZE + size * Long.BYTES, size);
+    }
+
+    public static void write(Path path, int depth, int samples, long[] keys, byte[] cells, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + size * (Long.BYTES + 1));
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putInt(depth);
+        buffer.putInt(samples);
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && keys[i - 1] >= keys[i]) throw new IllegalArgumentException("Keys must be sorted and unique");
+            buffer.putLong(keys[i]);
+        }
+        buffer.put(cells, 0, size);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, buffer.array());
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int lookup(Map shots) {
+        if (shots.getAttackedCount() >= depth) return -1;
+        long[] state = new long[4];
+        int transform = BoardSymmetry.canonical(shots.getHitsLow(), shots.getHitsHigh(), shots.getMissesLow(),
+                shots.getMissesHigh(), state);
+        int index = find(BoardSymmetry.key(state));
+        if (index < 0) return -1;
+        return BoardSymmetry.invert(transform, cells.get(index));
+    }
+
+    private int find(long key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = keys.get(mid);
+            if (value < key) low = mid + 1;
+            else if (value > key) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,100 @@
+package ai;
+
+import objects.Map;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+
+public class OpeningBookBuilder {
+    private final int depth;
+    private final int positions;
+    private final MonteCarloTargeter evaluator;
+    private final HashMap<Long, Byte> entries = new HashMap<>();
+    private final long[] state = new long[4];
+    private final int[] counts = new int[Map.CELLS];
+
+    private record Position(long hitsLow, long hitsHigh, long missesLow, long missesHigh, double probability, int shots) {
+    }
+
+    public OpeningBookBuilder(int depth, int positions, MonteCarloTargeter evaluator) {
+        this.depth = depth;
+        this.positions = positions;
+        this.evaluator = evaluator;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int depth = 12;
+        int positions = 5000;
+        int samples = 20000;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path out = Path.of("opening.book");
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--depth" -> depth = Integer.parseInt(args[++i]);
+                case "--positions" -> positions = Integer.parseInt(args[++i]);
+                case "--samples" -> samples = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--out" -> out = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        OpeningBookBuilder builder = new OpeningBookBuilder(depth, positions, new MonteCarloTargeter(samples, pool, seed));
+        double coverage = builder.build();
+        builder.write(out, samples);
+        pool.shutdown();
+        System.out.printf("%d positions up to %d shots covering %.1f%% of openings in %.1f s, written to %s%n",
+                builder.size(), depth, 100 * coverage, (System.nanoTime() - start) / 1e9, out);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public double build() {
+        PriorityQueue<Position> queue = new PriorityQueue<>(Comparator.comparingDouble(Position::probability).reversed());
+        queue.add(new Position(0, 0, 0, 0, 1, 0));
+        Map map = new Map();
+        double covered = 0;
+        while (!queue.isEmpty() && entries.size() < positions) {
+            Position position = queue.poll();
+            int transform = BoardSymmetry.canonical(position.hitsLow(), position.hitsHigh(), position.missesLow(),
+                    position.missesHigh(), state);
+            long key = BoardSymmetry.key(state);
+            if (entries.containsKey(key)) continue;
+            map.set(position.hitsLow(), position.hitsHigh(), position.missesLow(), position.missesHigh());
+            evaluator.load(map, List.of());
+            int cell = evaluator.nextShot(map);
+            if (cell < 0 || evaluator.getAccepted() == 0) continue;
+            entries.put(key, (byte) BoardSymmetry.apply(transform, cell));
+            covered += position.probability() / depth;
+            if (position.shots() + 1 >= depth) continue;
+            double hit = Math.min(1, (double) evaluator.getCounts(counts)[cell] / evaluator.getAccepted());
+            long cellLow = cell < 64 ? 1L << cell : 0;
+            long cellHigh = cell < 64 ? 0 : 1L << (cell - 64);
+            queue.add(new Position(position.hitsLow(), position.hitsHigh(), position.missesLow() | cellLow,
+                    position.missesHigh() | cellHigh, position.probability() * (1 - hit), position.shots() + 1));
+            queue.add(new Position(position.hitsLow() | cellLow, position.hitsHigh() | cellHigh, position.missesLow(),
+                    position.missesHigh(), position.probability() * hit, position.shots() + 1));
+        }
+        return covered;
+    }
+
+    public void write(Path path, int samples) throws IOException {
+        long[] keys = new long[entries.size()];
+        int i = 0;
+        for (long key : entries.keySet()) keys[i++] = key;
+        Arrays.sort(keys);
+        byte[] cells = new byte[keys.length];
+        for (i = 0; i < keys.length; i++) cells[i] = entries.get(keys[i]);
+        OpeningBook.write(path, depth, samples, keys, cells, keys.length);
+    }
+}
@@ -0,0 +1,85 @@
+package ai;
+
+import enums.ShipType;
+import objects.Map;
+
+public final class Placements {
+    public static final int MAX_LENGTH = maxLength();
+
+    private static final int[][] CELLS = new int[MAX_LENGTH + 1][];
+    private static final int[][][] BY_CELL = new int[MAX_LENGTH + 1][][];
+    private static final long[][] LOW = new long[MAX_LENGTH + 1][];
+    private static final long[][] HIGH = new long[MAX_LENGTH + 1][];
+
+    static {
+        for (int length = 1; length <= MAX_LENGTH; length++) {
+            int perAxis = Map.SIZE * (Map.SIZE - length + 1);
+            int[] cells = new int[2 * perAxis * length];
+            int[] counts = new int[Map.CELLS];
+            int p = 0;
+            for (int vertical = 0; vertical < 2; vertical++) {
+                for (int a = 0; a < Map.SIZE; a++) {
+                    for (int b = 0; b <= Map.SIZE - length; b++) {
+                        for (int i = 0; i < length; i++) {
+                            int cell = vertical == 0 ? Map.cell(b + i, a) : Map.cell(a, b + i);
+                            cells[p * length + i] = cell;
+                            counts[cell]++;
+                        }
+                        p++;
+                    }
+                }
+            }
+            int[][] byCell = new int[Map.CELLS][];
+            for (int cell = 0; cell < Map.CELLS; cell++) byCell[cell] = new int[counts[cell]];
+            int[] fill = new int[Map.CELLS];
+            for (int i = 0; i < cells.length; i++) {
+                int cell = cells[i];
+                byCell[cell][fill[cell]++] = i / length;
+            }
+            long[] low = new long[2 * perAxis];
+            long[] high = new long[2 * perAxis];
+            for (int i = 0; i < cells.length; i++) {
+                int cell = cells[i];
+                if (cell < 64) low[i / length] |= 1L << cell;
+                else high[i / length] |= 1L << (cell - 64);
+            }
+            CELLS[length] = cells;
+            BY_CELL[length] = byCell;
+            LOW[length] = low;
+            HIGH[length] = high;
+        }
+    }
+
+    private Placements() {
+    }
+
+    public static int count(int length) {
+        return CELLS[length].length / length;
+    }
+
+    public static int cell(int length, int placement, int i) {
+        return CELLS[length][placement * length + i];
+    }
+
+    public static int[] cells(int length) {
+        return CELLS[length];
+    }
+
+    public static int[] byCell(int length, int cell) {
+        return BY_CELL[length][cell];
+    }
+
+    public static long low(int length, int placement) {
+        return LOW[length][placement];
+    }
+
+    public static long high(int length, int placement) {
+        return HIGH[length][placement];
+    }
+
+    private static int maxLength() {
+        int max = 0;
+        for (ShipType type : ShipType.values()) max = Math.max(max, type.getLength());
+        return max;
+    }
+}
@@ -0,0 +1,40 @@
+package ai;
+
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Ship;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+public class RandomTargeter implements TargetingStrategy {
+    private final RandomGenerator random;
+
+    public RandomTargeter(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public void reset() {
+    }
+
+    @Override
+    public void load(Map shots, List<Ship> sunk) {
+    }
+
+    @Override
+    public int nextShot(Map shots) {
+        int remaining = Map.CELLS - shots.getAttackedCount();
+        if (remaining == 0) return -1;
+        int skip = random.nextInt(remaining);
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            if (shots.isAttacked(cell)) continue;
+            if (skip-- == 0) return cell;
+        }
+        return -1;
+    }
+
+    @Override
+    public void onShot(Map shots, int cell, ShotResult result, ShipType type) {
+    }
+}
@@ -0,0 +1,17 @@
+package ai;
+
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Ship;
+import java.util.List;
+
+public interface TargetingStrategy {
+    void reset();
+
+    void load(Map shots, List<Ship> sunk);
+
+    int nextShot(Map shots);
+
+    void onShot(Map shots, int cell, ShotResult result, ShipType type);
+}
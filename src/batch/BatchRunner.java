@@ -0,0 +1,234 @@
+package batch;
+
+import engine.FleetGenerator;
+import engine.GameEngine;
+import engine.Validation;
+import enums.Direction;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class BatchRunner {
+    public static final String CSV_HEADER = "script,game,line,command,player,target,result,ship,status";
+
+    private final Writer out;
+    private final boolean quiet;
+    private String script;
+    private int line;
+    private int game;
+    private GameEngine engine;
+    private long games;
+    private long commands;
+    private long failures;
+
+    public BatchRunner(Writer out, boolean quiet) {
+        this.out = out;
+        this.quiet = quiet;
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean quiet = false;
+        Path outPath = null;
+        List<String> scripts = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--quiet" -> quiet = true;
+                case "--out" -> outPath = Path.of(args[++i]);
+                default -> scripts.add(args[i]);
+            }
+        }
+        if (scripts.isEmpty()) scripts.add("-");
+        long start = System.nanoTime();
+        Writer writer = outPath != null ? Files.newBufferedWriter(outPath)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        BatchRunner runner = new BatchRunner(writer, quiet);
+        writer.write(CSV_HEADER + "\n");
+        for (String script : scripts) {
+            if (script.equals("-")) {
+                runner.run("-", new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+            } else {
+                try (BufferedReader reader = Files.newBufferedReader(Path.of(script))) {
+                    runner.run(script, reader);
+                }
+            }
+        }
+        writer.flush();
+        if (outPath != null) writer.close();
+        System.err.printf("%d games, %d commands, %d failures in %.1f ms%n", runner.getGames(), runner.getCommands(),
+                runner.getFailures(), (System.nanoTime() - start) / 1e6);
+        if (runner.getFailures() > 0) System.exit(1);
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getCommands() {
+        return commands;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public void run(String script, BufferedReader reader) throws IOException {
+        this.script = script;
+        line = 0;
+        game = 0;
+        engine = null;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            int comment = text.indexOf('#');
+            if (comment >= 0) text = text.substring(0, comment);
+            text = text.trim();
+            if (text.isEmpty()) continue;
+            commands++;
+            execute(text.split("\\s+"));
+        }
+    }
+
+    private void execute(String[] words) throws IOException {
+        String command = words[0].toLowerCase();
+        if (command.equals("game")) {
+            newGame();
+            return;
+        }
+        if (engine == null) newGame();
+        try {
+            switch (command) {
+                case "name" -> {
+                    player(words, 1).setNickname(word(words, 2));
+                    write(command, words[1], word(words, 2), "", "", true);
+                }
+                case "place" -> place(words);
+                case "auto" -> auto(words);
+                case "shoot" -> shoot(words);
+                case "winner" -> winner(words);
+                default -> error(command, "unknown command");
+            }
+        } catch (IllegalArgumentException e) {
+            error(command, e.getMessage());
+        }
+    }
+
+    private void newGame() {
+        engine = new GameEngine();
+        game++;
+        games++;
+    }
+
+    private void place(String[] words) throws IOException {
+        Player player = player(words, 1);
+        ShipType type = shipType(word(words, 2));
+        int cell = cell(word(words, 3));
+        Direction direction = direction(word(words, 4));
+        int x = Map.cellX(cell) + 1;
+        int y = Map.cellY(cell) + 1;
+        int check = Validation.checkPlacement(player, type, direction, x, y);
+        String result = switch (check) {
+            case Validation.OK -> engine.placeShip(player, new Ship(x, y, direction, type)) ? "OK" : "REJECTED";
+            case Validation.PLACEMENT_NO_TYPE -> "NO_TYPE";
+            case Validation.PLACEMENT_OFF_BOARD -> "OFF_BOARD";
+            default -> "OVERLAP";
+        };
+        String expected = words.length > 5 ? words[5].toUpperCase() : "OK";
+        write("place", words[1], words[3] + ":" + direction.toString().toLowerCase(), result, type.toString(),
+                result.equals(expected));
+    }
+
+    private void auto(String[] words) throws IOException {
+        Player player = player(words, 1);
+        long seed = words.length > 2 ? Long.parseLong(words[2]) : game;
+        boolean placed = engine.placeFleet(player, new FleetGenerator(new SplittableRandom(seed)));
+        write("auto", words[1], Long.toString(seed), placed ? "OK" : "REJECTED", "", placed);
+    }
+
+    private void shoot(String[] words) throws IOException {
+        int turn = engine.getTurn();
+        if (!engine.getFleetPlaced(engine.getPlayer(1)) || !engine.getFleetPlaced(engine.getPlayer(2))) {
+            error("shoot", "fleets are not placed");
+            return;
+        }
+        String target = word(words, 1);
+        int cell = cell(target);
+        ShotResult result = engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+        ShipType type = result == ShotResult.MISS || result == ShotResult.INVALID
+                || result == ShotResult.ALREADY_ATTACKED ? ShipType.NONE : engine.getLastShipType();
+        boolean ok = true;
+        if (words.length > 2) ok = result.toString().equalsIgnoreCase(words[2]);
+        if (ok && words.length > 3) ok = type == shipType(words[3]);
+        if (result == ShotResult.MISS || result == ShotResult.HIT || result == ShotResult.SUNK) engine.changeTurn();
+        write("shoot", Integer.toString(turn), target.toUpperCase(), result.toString(),
+                type == ShipType.NONE ? "" : type.toString(), ok);
+    }
+
+    private void winner(String[] words) throws IOException {
+        int expected = Integer.parseInt(word(words, 1));
+        Player winner = engine.getWinner();
+        int actual = winner == null ? 0 : engine.getPlayerNumber(winner);
+        write("winner", Integer.toString(actual), "", actual == 0 ? "NONE" : "PLAYER_" + actual, "", actual == expected);
+    }
+
+    private Player player(String[] words, int index) {
+        String word = word(words, index);
+        if (!word.equals("1") && !word.equals("2")) throw new IllegalArgumentException("player must be 1 or 2");
+        return engine.getPlayer(word.charAt(0) - '0');
+    }
+
+    private static String word(String[] words, int index) {
+        if (index >= words.length) throw new IllegalArgumentException(words[0] + " needs more arguments");
+        return words[index];
+    }
+
+    private static int cell(String word) {
+        int cell = Validation.parseCell(word);
+        if (cell < 0) throw new IllegalArgumentException("bad coordinates " + word);
+        return cell;
+    }
+
+    private static ShipType shipType(String word) {
+        try {
+            return ShipType.valueOf(word.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown ship " + word);
+        }
+    }
+
+    private static Direction direction(String word) {
+        return switch (word.toLowerCase()) {
+            case "north", "n" -> Direction.NORTH;
+            case "south", "s" -> Direction.SOUTH;
+            case "east", "e" -> Direction.EAST;
+            case "west", "w" -> Direction.WEST;
+            default -> throw new IllegalArgumentException("unknown direction " + word);
+        };
+    }
+
+    private void error(String command, String message) throws IOException {
+        failures++;
+        out.write(script + "," + game + "," + line + "," + command + ",,," + message.replace(',', ';') + ",,error\n");
+    }
+
+    private void write(String command, String player, String target, String result, String ship, boolean ok)
+            throws IOException {
+        if (!ok) failures++;
+        if (quiet && ok) return;
+        out.write(script + "," + game + "," + line + "," + command + "," + player + "," + target + "," + result + ","
+                + ship + "," + (ok ? "ok" : "fail") + "\n");
+    }
+}
@@ -0,0 +1,271 @@
+package corpus;
+
+import enums.ShipType;
+import objects.Map;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class CorpusBlock {
+    public static final int SHIPS = ShipType.values().length - 1;
+    public static final int LAYOUT_SIZE = 2 * SHIPS;
+    public static final int MAX_SHOTS = 2 * Map.CELLS;
+
+    private static final int COLUMNS = 6;
+    private static final long FULL_HIGH = (1L << (Map.CELLS - 64)) - 1;
+
+    private final int capacity;
+    private final long[] ids;
+    private final byte[] winners;
+    private final byte[] shotCounts;
+    private final int[] shotOffsets;
+    private final short[] layouts;
+    private byte[] cells;
+    private byte[] results;
+    private byte[] ranks;
+    private int games;
+    private int shots;
+
+    private final byte[] column;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final Inflater inflater = new Inflater();
+    private byte[] compressed = new byte[1024];
+
+    public CorpusBlock(int capacity) {
+        this.capacity = capacity;
+        ids = new long[capacity];
+        winners = new byte[capacity];
+        shotCounts = new byte[capacity];
+        shotOffsets = new int[capacity + 1];
+        layouts = new short[capacity * LAYOUT_SIZE];
+        cells = new byte[capacity * 64];
+        results = new byte[cells.length];
+        ranks = new byte[cells.length];
+        column = new byte[capacity * Math.max(Long.BYTES, 2 * LAYOUT_SIZE)];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getShots() {
+        return shots;
+    }
+
+    public boolean isFull() {
+        return games == capacity;
+    }
+
+    public void clear() {
+        games = 0;
+        shots = 0;
+    }
+
+    public long getGameId(int game) {
+        return ids[game];
+    }
+
+    public int getWinner(int game) {
+        return winners[game];
+    }
+
+    public int getShotCount(int game) {
+        return shotCounts[game] & 0xff;
+    }
+
+    public int getPlacement(int game, int playerNumber, ShipType type) {
+        return layouts[game * LAYOUT_SIZE + (playerNumber - 1) * SHIPS + type.ordinal()];
+    }
+
+    public int getCell(int game, int shot) {
+        return cells[shotOffsets[game] + shot];
+    }
+
+    public int getResult(int game, int shot) {
+        return results[shotOffsets[game] + shot];
+    }
+
+    public int getShooter(int shot) {
+        return 1 + (shot & 1);
+    }
+
+    public void beginGame(long gameId, int[] placements) {
+        if (isFull()) throw new IllegalStateException("Block is full");
+        ids[games] = gameId;
+        for (int i = 0; i < LAYOUT_SIZE; i++) layouts[games * LAYOUT_SIZE + i] = (short) placements[i];
+        shotOffsets[games] = shots;
+        shotCounts[games] = 0;
+        winners[games] = 0;
+    }
+
+    public void addShot(int cell, int result) {
+        if (shots == cells.length) {
+            cells = Arrays.copyOf(cells, cells.length * 2);
+            results = Arrays.copyOf(results, cells.length);
+            ranks = new byte[cells.length];
+        }
+        cells[shots] = (byte) cell;
+        results[shots++] = (byte) result;
+        shotCounts[games]++;
+    }
+
+    public void endGame(int winner) {
+        winners[games++] = (byte) winner;
+        shotOffsets[games] = shots;
+    }
+
+    public byte[] encode() {
+        ByteBuffer out = ByteBuffer.allocate(2 * Integer.BYTES + COLUMNS * 2 * Integer.BYTES
+                + games * (Long.BYTES + 2 + 2 * LAYOUT_SIZE) + 2 * shots + 1024);
+        out.putInt(games);
+        out.putInt(shots);
+        ByteBuffer idColumn = ByteBuffer.wrap(column);
+        long previous = 0;
+        for (int i = 0; i < games; i++) {
+            idColumn.putLong(ids[i] - previous);
+            previous = ids[i];
+        }
+        out = putColumn(out, column, games * Long.BYTES);
+        out = putColumn(out, winners, games);
+        out = putColumn(out, shotCounts, games);
+        int placements = games * LAYOUT_SIZE;
+        for (int i = 0; i < placements; i++) {
+            column[i] = (byte) (layouts[i] >>> 8);
+            column[placements + i] = (byte) layouts[i];
+        }
+        out = putColumn(out, column, 2 * placements);
+        encodeRanks();
+        out = putColumn(out, ranks, shots);
+        out = putColumn(out, results, shots);
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    public void decode(ByteBuffer in) {
+        games = in.getInt();
+        shots = in.getInt();
+        if (games > capacity) throw new IllegalArgumentException("Block has " + games + " games, capacity is " + capacity);
+        if (shots > cells.length) {
+            cells = new byte[shots];
+            results = new byte[shots];
+            ranks = new byte[shots];
+        }
+        getColumn(in, column, games * Long.BYTES);
+        ByteBuffer idColumn = ByteBuffer.wrap(column);
+        long previous = 0;
+        for (int i = 0; i < games; i++) {
+            previous += idColumn.getLong();
+            ids[i] = previous;
+        }
+        getColumn(in, winners, games);
+        getColumn(in, shotCounts, games);
+        int placements = games * LAYOUT_SIZE;
+        getColumn(in, column, 2 * placements);
+        for (int i = 0; i < placements; i++) {
+            layouts[i] = (short) ((column[i] & 0xff) << 8 | column[placements + i] & 0xff);
+        }
+        int offset = 0;
+        for (int i = 0; i < games; i++) {
+            shotOffsets[i] = offset;
+            offset += shotCounts[i] & 0xff;
+        }
+        shotOffsets[games] = offset;
+        if (offset != shots) throw new IllegalArgumentException("Shot counts add up to " + offset + ", expected " + shots);
+        getColumn(in, cells, shots);
+        getColumn(in, results, shots);
+        decodeRanks();
+    }
+
+    private void encodeRanks() {
+        long[] attacked = new long[4];
+        for (int game = 0; game < games; game++) {
+            Arrays.fill(attacked, 0);
+            for (int shot = shotOffsets[game]; shot < shotOffsets[game + 1]; shot++) {
+                int player = (shot - shotOffsets[game]) & 1;
+                int cell = cells[shot];
+                long low = attacked[2 * player];
+                long high = attacked[2 * player + 1];
+                int rank = cell < 64 ? cell - Long.bitCount(low & ((1L << cell) - 1))
+                        : cell - Long.bitCount(low) - Long.bitCount(high & ((1L << (cell - 64)) - 1));
+                ranks[shot] = (byte) rank;
+                if (cell < 64) attacked[2 * player] |= 1L << cell;
+                else attacked[2 * player + 1] |= 1L << (cell - 64);
+            }
+        }
+    }
+
+    private void decodeRanks() {
+        long[] attacked = new long[4];
+        for (int game = 0; game < games; game++) {
+            Arrays.fill(attacked, 0);
+            for (int shot = shotOffsets[game]; shot < shotOffsets[game + 1]; shot++) {
+                int player = (shot - shotOffsets[game]) & 1;
+                int rank = cells[shot];
+                long freeLow = ~attacked[2 * player];
+                long freeHigh = ~attacked[2 * player + 1] & FULL_HIGH;
+                int cell;
+                if (rank < Long.bitCount(freeLow)) {
+                    cell = select(freeLow, rank);
+                    attacked[2 * player] |= 1L << cell;
+                } else {
+                    cell = 64 + select(freeHigh, rank - Long.bitCount(freeLow));
+                    attacked[2 * player + 1] |= 1L << (cell - 64);
+                }
+                cells[shot] = (byte) cell;
+            }
+        }
+    }
+
+    private static int select(long bits, int rank) {
+        for (int i = 0; i < rank; i++) bits &= bits - 1;
+        return Long.numberOfTrailingZeros(bits);
+    }
+
+    private ByteBuffer putColumn(ByteBuffer out, byte[] data, int length) {
+        deflater.reset();
+        deflater.setInput(data, 0, length);
+        deflater.finish();
+        int size = 0;
+        while (!deflater.finished()) {
+            if (size == compressed.length) compressed = Arrays.copyOf(compressed, size * 2);
+            size += deflater.deflate(compressed, size, compressed.length - size);
+        }
+        if (out.remaining() < 2 * Integer.BYTES + size) {
+            ByteBuffer grown = ByteBuffer.allocate(out.capacity() * 2 + size);
+            out = grown.put(out.flip());
+        }
+        out.putInt(length);
+        out.putInt(size);
+        out.put(compressed, 0, size);
+        return out;
+    }
+
+    private void getColumn(ByteBuffer in, byte[] data, int length) {
+        int rawLength = in.getInt();
+        int size = in.getInt();
+        if (rawLength != length) throw new IllegalArgumentException("Column has " + rawLength + " bytes, expected " + length);
+        inflater.reset();
+        if (in.hasArray()) {
+            inflater.setInput(in.array(), in.arrayOffset() + in.position(), size);
+        } else {
+            inflater.setInput(in.slice(in.position(), size));
+        }
+        in.position(in.position() + size);
+        try {
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(data, read, length - read);
+                if (n == 0 && inflater.needsInput()) break;
+                read += n;
+            }
+            if (read != length) throw new IllegalArgumentException("Column is truncated");
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Column is corrupt", e);
+        }
+    }
+}
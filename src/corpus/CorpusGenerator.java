@@ -0,0 +1,146 @@
+package corpus;
+
+import ai.DensityTargeter;
+import ai.RandomTargeter;
+import ai.TargetingStrategy;
+import engine.FleetGenerator;
+import engine.GameEngine;
+import engine.PlacementTable;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Player;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class CorpusGenerator {
+    public static final int DEFAULT_BLOCK_GAMES = 4096;
+
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final long seed;
+    private final String targeting;
+    private final int blockGames;
+    private final ThreadLocal<CorpusBlock> blocks;
+
+    public CorpusGenerator(long seed, String targeting, int blockGames) {
+        if (!targeting.equals("density") && !targeting.equals("random")) {
+            throw new IllegalArgumentException("Unknown targeter " + targeting);
+        }
+        this.seed = seed;
+        this.targeting = targeting;
+        this.blockGames = blockGames;
+        blocks = ThreadLocal.withInitial(() -> new CorpusBlock(blockGames));
+    }
+
+    public static void main(String[] args) throws IOException {
+        long games = 100_000;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int blockGames = DEFAULT_BLOCK_GAMES;
+        String targeting = "density";
+        Path out = Path.of("corpus.bscp");
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Long.parseLong(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--block" -> blockGames = Integer.parseInt(args[++i]);
+                case "--targeter" -> targeting = args[++i];
+                case "--out" -> out = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        CorpusGenerator generator = new CorpusGenerator(seed, targeting, blockGames);
+        long size;
+        try (CorpusWriter writer = new CorpusWriter(out, seed, blockGames)) {
+            generator.generate(games, pool, writer);
+            size = writer.getPosition();
+        }
+        pool.shutdown();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d games in %.2f s (%.0f games/s), %.1f bytes per game, written to %s%n", games, seconds,
+                games / seconds, (double) size / Math.max(games, 1), out);
+    }
+
+    public void generate(long games, ForkJoinPool pool, CorpusWriter writer) throws IOException {
+        long blockCount = (games + blockGames - 1) / blockGames;
+        int window = 2 * pool.getParallelism();
+        ArrayDeque<ForkJoinTask<byte[]>> pending = new ArrayDeque<>();
+        try {
+            for (long b = 0; b < blockCount; b++) {
+                long from = b * blockGames;
+                long to = Math.min(from + blockGames, games);
+                pending.add(pool.submit(() -> playBlock(from, to)));
+                if (pending.size() >= window) writer.writeBlock(pending.poll().join());
+            }
+            while (!pending.isEmpty()) writer.writeBlock(pending.poll().join());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public byte[] playBlock(long from, long to) {
+        CorpusBlock block = blocks.get();
+        block.clear();
+        int[] placements = new int[CorpusBlock.LAYOUT_SIZE];
+        for (long game = from; game < to; game++) play(game, block, placements);
+        return block.encode();
+    }
+
+    public long gameSeed(long game) {
+        return mix(seed ^ mix(game));
+    }
+
+    public void play(long game, CorpusBlock block, int[] placements) {
+        SplittableRandom random = new SplittableRandom(gameSeed(game));
+        GameEngine engine = new GameEngine();
+        FleetGenerator fleetGenerator = new FleetGenerator(random.split());
+        for (int playerNumber = 1; playerNumber <= 2; playerNumber++) {
+            Player player = engine.getPlayer(playerNumber);
+            if (!engine.placeFleet(player, fleetGenerator)) engine.placeNewFleet(player, fleetGenerator);
+            for (int t = 0; t < CorpusBlock.SHIPS; t++) {
+                placements[(playerNumber - 1) * CorpusBlock.SHIPS + t] = PlacementTable.index(player.getShip(SHIP_TYPES[t]));
+            }
+        }
+        TargetingStrategy[] targeters = {null, newTargeter(random), newTargeter(random)};
+        block.beginGame(game, placements);
+        int winner = 0;
+        for (int shot = 0; shot < CorpusBlock.MAX_SHOTS; shot++) {
+            int turn = engine.getTurn();
+            Map map = engine.getCurrentPlayer().getMap();
+            int cell = targeters[turn].nextShot(map);
+            ShotResult result = cell < 0 ? ShotResult.INVALID : engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+            if (result == ShotResult.INVALID || result == ShotResult.ALREADY_ATTACKED) {
+                winner = 3 - turn;
+                break;
+            }
+            targeters[turn].onShot(map, cell, result, engine.getLastShipType());
+            block.addShot(cell, result.ordinal());
+            if (result == ShotResult.WIN) {
+                winner = turn;
+                break;
+            }
+            engine.changeTurn();
+        }
+        block.endGame(winner);
+    }
+
+    private TargetingStrategy newTargeter(SplittableRandom random) {
+        if (targeting.equals("random")) return new RandomTargeter(random.split());
+        return new DensityTargeter();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
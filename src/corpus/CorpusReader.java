@@ -0,0 +1,122 @@
+package corpus;
+
+import enums.ShotResult;
+import objects.Map;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class CorpusReader implements Closeable {
+    private final FileChannel channel;
+    private final long seed;
+    private final int blockCapacity;
+    private final long games;
+    private final long[] offsets;
+
+    public interface BlockVisitor {
+        void visit(CorpusBlock block);
+    }
+
+    public CorpusReader(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        long size = channel.size();
+        if (size < CorpusWriter.HEADER_SIZE + CorpusWriter.FOOTER_SIZE) throw new IOException("Not a corpus file");
+        ByteBuffer header = read(0, CorpusWriter.HEADER_SIZE);
+        if (header.getInt() != CorpusWriter.MAGIC) throw new IOException("Not a corpus file");
+        byte version = header.get();
+        if (version != CorpusWriter.VERSION) throw new IOException("Unsupported corpus version " + version);
+        seed = header.getLong();
+        blockCapacity = header.getInt();
+        ByteBuffer footer = read(size - CorpusWriter.FOOTER_SIZE, CorpusWriter.FOOTER_SIZE);
+        games = footer.getLong();
+        int blocks = footer.getInt();
+        if (footer.getInt() != CorpusWriter.MAGIC) throw new IOException("Corpus is truncated");
+        offsets = new long[blocks + 1];
+        ByteBuffer index = read(size - CorpusWriter.FOOTER_SIZE - (long) blocks * Long.BYTES, blocks * Long.BYTES);
+        for (int i = 0; i < blocks; i++) offsets[i] = index.getLong();
+        offsets[blocks] = size - CorpusWriter.FOOTER_SIZE - (long) blocks * Long.BYTES;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: CorpusReader <corpus>");
+            return;
+        }
+        long start = System.nanoTime();
+        long[] totals = new long[4];
+        long[] hits = new long[Map.CELLS];
+        long[] shotsAt = new long[Map.CELLS];
+        try (CorpusReader reader = new CorpusReader(Path.of(args[0]))) {
+            reader.forEach(block -> {
+                for (int game = 0; game < block.getGames(); game++) {
+                    int shots = block.getShotCount(game);
+                    totals[0] += shots;
+                    if (block.getWinner(game) == 1) totals[1]++;
+                    for (int shot = 0; shot < shots; shot++) {
+                        int cell = block.getCell(game, shot);
+                        shotsAt[cell]++;
+                        if (block.getResult(game, shot) != ShotResult.MISS.ordinal()) hits[cell]++;
+                    }
+                }
+                totals[2] += block.getGames();
+            });
+            long n = Math.max(totals[2], 1);
+            System.out.printf("%d games in %d blocks, seed %d, %.1f bytes per game%n", reader.getGames(),
+                    reader.getBlockCount(), reader.getSeed(), (double) reader.channel.size() / n);
+            System.out.printf("%.2f shots per game, player 1 won %.1f%%%n", (double) totals[0] / n, 100.0 * totals[1] / n);
+            int best = 0;
+            for (int cell = 1; cell < hits.length; cell++) {
+                if (hits[cell] * shotsAt[best] > hits[best] * shotsAt[cell]) best = cell;
+            }
+            System.out.printf("Best cell %c%d hits %.1f%% of shots%n", 'A' + Map.cellY(best), Map.cellX(best) + 1,
+                    100.0 * hits[best] / Math.max(shotsAt[best], 1));
+        }
+        System.out.printf("Read in %.2f s%n", (System.nanoTime() - start) / 1e9);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getBlockCapacity() {
+        return blockCapacity;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public int getBlockCount() {
+        return offsets.length - 1;
+    }
+
+    public CorpusBlock readBlock(int index, CorpusBlock block) throws IOException {
+        long offset = offsets[index];
+        MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, offset, offsets[index + 1] - offset);
+        int length = data.getInt();
+        block.decode(data.slice(Integer.BYTES, length));
+        return block;
+    }
+
+    public void forEach(BlockVisitor visitor) throws IOException {
+        CorpusBlock block = new CorpusBlock(blockCapacity);
+        for (int i = 0; i < getBlockCount(); i++) visitor.visit(readBlock(i, block));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new IOException("Corpus is truncated");
+        }
+        return buffer.flip();
+    }
+}
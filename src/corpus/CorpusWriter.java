@@ -0,0 +1,87 @@
+package corpus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class CorpusWriter implements Closeable {
+    public static final int MAGIC = 0x42534350;
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = Integer.BYTES + 1 + Long.BYTES + Integer.BYTES;
+    public static final int FOOTER_SIZE = Long.BYTES + 2 * Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long[] offsets = new long[64];
+    private int blocks;
+    private long games;
+    private long position;
+
+    public CorpusWriter(Path path, long seed, int blockCapacity) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(seed);
+        buffer.putInt(blockCapacity);
+        position = HEADER_SIZE;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public void writeBlock(byte[] block) throws IOException {
+        if (blocks == offsets.length) offsets = Arrays.copyOf(offsets, blocks * 2);
+        offsets[blocks++] = position;
+        games += ByteBuffer.wrap(block).getInt();
+        if (buffer.remaining() < Integer.BYTES) flush();
+        buffer.putInt(block.length);
+        write(ByteBuffer.wrap(block));
+        position += Integer.BYTES + block.length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            for (int i = 0; i < blocks; i++) {
+                if (buffer.remaining() < Long.BYTES) flush();
+                buffer.putLong(offsets[i]);
+            }
+            if (buffer.remaining() < FOOTER_SIZE) flush();
+            buffer.putLong(games);
+            buffer.putInt(blocks);
+            buffer.putInt(MAGIC);
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void write(ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            if (!buffer.hasRemaining()) flush();
+            int length = Math.min(buffer.remaining(), data.remaining());
+            buffer.put(buffer.position(), data, data.position(), length);
+            buffer.position(buffer.position() + length);
+            data.position(data.position() + length);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+}
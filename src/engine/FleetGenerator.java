@@ -0,0 +1,53 @@
+package engine;
+
+import enums.ShipType;
+import objects.Player;
+import objects.Ship;
+import java.util.random.RandomGenerator;
+
+public class FleetGenerator {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final RandomGenerator random;
+
+    public FleetGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    public boolean placeFleet(Player player) {
+        long occupiedLow = 0;
+        long occupiedHigh = 0;
+        for (ShipType type : SHIP_TYPES) {
+            Ship ship = player.getShip(type);
+            if (ship == null) continue;
+            int placement = PlacementTable.index(ship);
+            if (placement < 0) return false;
+            occupiedLow |= PlacementTable.low(type, placement);
+            occupiedHigh |= PlacementTable.high(type, placement);
+        }
+        for (ShipType type : SHIP_TYPES) {
+            if (type == ShipType.NONE || player.getShip(type) != null) continue;
+            int placement = choose(type, occupiedLow, occupiedHigh);
+            if (placement < 0) return false;
+            occupiedLow |= PlacementTable.low(type, placement);
+            occupiedHigh |= PlacementTable.high(type, placement);
+            player.setShip(PlacementTable.newShip(type, placement));
+        }
+        return true;
+    }
+
+    public int choose(ShipType type, long occupiedLow, long occupiedHigh) {
+        int count = PlacementTable.count(type);
+        int free = 0;
+        for (int i = 0; i < count; i++) {
+            if (((PlacementTable.low(type, i) & occupiedLow) | (PlacementTable.high(type, i) & occupiedHigh)) == 0) free++;
+        }
+        if (free == 0) return -1;
+        int pick = random.nextInt(free);
+        for (int i = 0; i < count; i++) {
+            if (((PlacementTable.low(type, i) & occupiedLow) | (PlacementTable.high(type, i) & occupiedHigh)) != 0) continue;
+            if (pick-- == 0) return i;
+        }
+        return -1;
+    }
+}
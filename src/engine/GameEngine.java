@@ -0,0 +1,170 @@
+package engine;
+
+import enums.MapStatus;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+
+public class GameEngine {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final Player player1;
+    private final Player player2;
+    private int turn = 1;
+    private ShipType lastShipType = ShipType.NONE;
+    private Player winner;
+    private GameListener listener;
+
+    public GameEngine() {
+        this(new Player(), new Player());
+    }
+
+    public GameEngine(Player player1, Player player2) {
+        this.player1 = player1;
+        this.player2 = player2;
+    }
+
+    public Player getPlayer(int playerNumber) {
+        if (playerNumber == 1) return player1;
+        else return player2;
+    }
+
+    public int getPlayerNumber(Player player) {
+        return player == player1 ? 1 : 2;
+    }
+
+    public GameListener getListener() {
+        return listener;
+    }
+
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public void setTurn(int turn) {
+        this.turn = turn;
+    }
+
+    public void changeTurn() {
+        turn++;
+        if (turn > 2) turn = 1;
+        if (listener != null) listener.onTurn(turn);
+    }
+
+    public Player getCurrentPlayer() {
+        return getPlayer(turn);
+    }
+
+    public Player getOtherPlayer() {
+        return getOtherPlayer(getCurrentPlayer());
+    }
+
+    public Player getOtherPlayer(Player player) {
+        if (player == player1) return player2;
+        else return player1;
+    }
+
+    public ShipType getLastShipType() {
+        return lastShipType;
+    }
+
+    public boolean isOver() {
+        return winner != null;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    public void setWinner(Player winner) {
+        this.winner = winner;
+    }
+
+    public boolean placeShip(Player player, Ship ship) {
+        if (!getShipLocationLegal(player, ship)) return false;
+        if (!player.setShip(ship)) return false;
+        if (listener != null) listener.onPlacement(getPlayerNumber(player), ship);
+        return true;
+    }
+
+    public boolean placeFleet(Player player, FleetGenerator generator) {
+        int placed = 0;
+        for (ShipType type : SHIP_TYPES) {
+            if (player.getShip(type) != null) placed |= 1 << type.ordinal();
+        }
+        boolean complete = generator.placeFleet(player);
+        if (listener != null) {
+            for (ShipType type : SHIP_TYPES) {
+                Ship ship = player.getShip(type);
+                if (ship != null && (placed & 1 << type.ordinal()) == 0) listener.onPlacement(getPlayerNumber(player), ship);
+            }
+        }
+        return complete;
+    }
+
+    public void placeNewFleet(Player player, FleetGenerator generator) {
+        player.clearShips();
+        if (!placeFleet(player, generator)) throw new IllegalStateException("Fleet does not fit on an empty board");
+    }
+
+    public ShotResult shoot(int x, int y) {
+        int check = Validation.checkShot(this, x, y);
+        if (check == Validation.SHOT_ALREADY_ATTACKED) return ShotResult.ALREADY_ATTACKED;
+        if (check != Validation.OK) return ShotResult.INVALID;
+        Player player = getCurrentPlayer();
+        Player otherPlayer = getOtherPlayer(player);
+        Map map = player.getMap();
+        int cell = Map.cell(x - 1, y - 1);
+
+        ShipType type = getShipTypeAtCoordinates(otherPlayer, x, y);
+        lastShipType = type;
+        ShotResult result;
+        if (type == ShipType.NONE) {
+            map.setStatus(cell, MapStatus.MISS);
+            result = ShotResult.MISS;
+        } else {
+            map.setStatus(cell, MapStatus.HIT);
+            otherPlayer.getShip(type).hit();
+            if (!otherPlayer.isSunk(type, map)) {
+                result = ShotResult.HIT;
+            } else if (!getFleetSunk(otherPlayer)) {
+                result = ShotResult.SUNK;
+            } else {
+                winner = player;
+                result = ShotResult.WIN;
+            }
+        }
+        if (listener != null) listener.onShot(turn, cell, result, type);
+        return result;
+    }
+
+    public boolean getFleetPlaced(Player player) {
+        for (ShipType type : SHIP_TYPES) {
+            if (type != ShipType.NONE && player.getShip(type) == null) return false;
+        }
+        return true;
+    }
+
+    public boolean getFleetSunk(Player player) {
+        return player.isFleetSunk(getOtherPlayer(player).getMap());
+    }
+
+    public boolean getShipLocationLegal(Player player, Ship ship) {
+        return Validation.checkPlacement(player, ship) == Validation.OK;
+    }
+
+    public ShipType getShipTypeAtCoordinates(Player player, int x, int y) {
+        if (x < 1 || x > Map.SIZE || y < 1 || y > Map.SIZE) return ShipType.NONE;
+        return player.getShipTypeAt(Map.cell(x - 1, y - 1));
+    }
+
+    public boolean getShipAtCoordinates(ShipType shipType, Player player, int x, int y) {
+        return shipType != ShipType.NONE && getShipTypeAtCoordinates(player, x, y) == shipType;
+    }
+}
@@ -0,0 +1,40 @@
+package engine;
+
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Ship;
+
+public interface GameListener {
+    default void onPlacement(int playerNumber, Ship ship) {
+    }
+
+    default void onShot(int playerNumber, int cell, ShotResult result, ShipType type) {
+    }
+
+    default void onTurn(int playerNumber) {
+    }
+
+    static GameListener combine(GameListener first, GameListener second) {
+        if (first == null) return second;
+        if (second == null) return first;
+        return new GameListener() {
+            @Override
+            public void onPlacement(int playerNumber, Ship ship) {
+                first.onPlacement(playerNumber, ship);
+                second.onPlacement(playerNumber, ship);
+            }
+
+            @Override
+            public void onShot(int playerNumber, int cell, ShotResult result, ShipType type) {
+                first.onShot(playerNumber, cell, result, type);
+                second.onShot(playerNumber, cell, result, type);
+            }
+
+            @Override
+            public void onTurn(int playerNumber) {
+                first.onTurn(playerNumber);
+                second.onTurn(playerNumber);
+            }
+        };
+    }
+}
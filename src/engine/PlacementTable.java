@@ -0,0 +1,98 @@
+package engine;
+
+import enums.Direction;
+import enums.ShipType;
+import objects.Map;
+import objects.Mask;
+import objects.Ship;
+import java.util.Arrays;
+
+public final class PlacementTable {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private static final int[][] ORIGINS = new int[SHIP_TYPES.length][];
+    private static final Direction[][] DIRECTION = new Direction[SHIP_TYPES.length][];
+    private static final long[][] LOW = new long[SHIP_TYPES.length][];
+    private static final long[][] HIGH = new long[SHIP_TYPES.length][];
+    private static final int[][] INDEX = new int[SHIP_TYPES.length][];
+
+    static {
+        Mask mask = new Mask();
+        for (ShipType type : SHIP_TYPES) {
+            int t = type.ordinal();
+            int[] index = new int[DIRECTIONS.length * Map.CELLS];
+            Arrays.fill(index, -1);
+            INDEX[t] = index;
+            if (type == ShipType.NONE) {
+                ORIGINS[t] = new int[0];
+                DIRECTION[t] = new Direction[0];
+                LOW[t] = new long[0];
+                HIGH[t] = new long[0];
+                continue;
+            }
+            int count = 0;
+            int[] origins = new int[DIRECTIONS.length * Map.CELLS];
+            Direction[] directions = new Direction[origins.length];
+            long[] low = new long[origins.length];
+            long[] high = new long[origins.length];
+            for (Direction direction : DIRECTIONS) {
+                for (int cell = 0; cell < Map.CELLS; cell++) {
+                    Ship ship = new Ship(Map.cellX(cell) + 1, Map.cellY(cell) + 1, direction, type);
+                    if (ship.getMask(mask).count() != type.getLength()) continue;
+                    index[direction.ordinal() * Map.CELLS + cell] = count;
+                    origins[count] = cell;
+                    directions[count] = direction;
+                    low[count] = mask.getLow();
+                    high[count] = mask.getHigh();
+                    count++;
+                }
+            }
+            ORIGINS[t] = Arrays.copyOf(origins, count);
+            DIRECTION[t] = Arrays.copyOf(directions, count);
+            LOW[t] = Arrays.copyOf(low, count);
+            HIGH[t] = Arrays.copyOf(high, count);
+        }
+    }
+
+    private PlacementTable() {
+    }
+
+    public static int count(ShipType type) {
+        return ORIGINS[type.ordinal()].length;
+    }
+
+    public static int index(ShipType type, Direction direction, int x, int y) {
+        if (x < 1 || x > Map.SIZE || y < 1 || y > Map.SIZE) return -1;
+        return INDEX[type.ordinal()][direction.ordinal() * Map.CELLS + Map.cell(x - 1, y - 1)];
+    }
+
+    public static int index(Ship ship) {
+        return index(ship.getType(), ship.getDirection(), ship.getxLocation(), ship.getyLocation());
+    }
+
+    public static int origin(ShipType type, int placement) {
+        return ORIGINS[type.ordinal()][placement];
+    }
+
+    public static Direction direction(ShipType type, int placement) {
+        return DIRECTION[type.ordinal()][placement];
+    }
+
+    public static long low(ShipType type, int placement) {
+        return LOW[type.ordinal()][placement];
+    }
+
+    public static long high(ShipType type, int placement) {
+        return HIGH[type.ordinal()][placement];
+    }
+
+    public static Mask mask(ShipType type, int placement, Mask out) {
+        return out.set(low(type, placement), high(type, placement));
+    }
+
+    public static Ship newShip(ShipType type, int placement) {
+        int origin = origin(type, placement);
+        return new Ship(Map.cellX(origin) + 1, Map.cellY(origin) + 1, direction(type, placement), type);
+    }
+}
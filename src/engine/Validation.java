@@ -0,0 +1,64 @@
+package engine;
+
+import enums.Direction;
+import enums.ShipType;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+
+public final class Validation {
+    public static final int OK = 0;
+
+    public static final int PLACEMENT_NO_TYPE = 1;
+    public static final int PLACEMENT_OFF_BOARD = 2;
+    public static final int PLACEMENT_OVERLAP = 3;
+
+    public static final int COORDINATE_FORMAT = -1;
+    public static final int COORDINATE_NUMBER = -2;
+    public static final int COORDINATE_COLUMN = -3;
+    public static final int COORDINATE_ROW = -4;
+
+    public static final int SHOT_GAME_OVER = 1;
+    public static final int SHOT_OFF_BOARD = 2;
+    public static final int SHOT_ALREADY_ATTACKED = 3;
+
+    private Validation() {
+    }
+
+    public static int checkPlacement(Player player, ShipType type, Direction direction, int x, int y) {
+        if (type == ShipType.NONE) return PLACEMENT_NO_TYPE;
+        int placement = PlacementTable.index(type, direction, x, y);
+        if (placement < 0) return PLACEMENT_OFF_BOARD;
+        if (!player.isFree(type, PlacementTable.low(type, placement), PlacementTable.high(type, placement))) {
+            return PLACEMENT_OVERLAP;
+        }
+        return OK;
+    }
+
+    public static int checkPlacement(Player player, Ship ship) {
+        return checkPlacement(player, ship.getType(), ship.getDirection(), ship.getxLocation(), ship.getyLocation());
+    }
+
+    public static int checkShot(GameEngine engine, int x, int y) {
+        if (engine.isOver()) return SHOT_GAME_OVER;
+        if (x < 1 || x > Map.SIZE || y < 1 || y > Map.SIZE) return SHOT_OFF_BOARD;
+        if (engine.getCurrentPlayer().getMap().isAttacked(Map.cell(x - 1, y - 1))) return SHOT_ALREADY_ATTACKED;
+        return OK;
+    }
+
+    public static int parseCell(CharSequence input) {
+        int length = input.length();
+        if (length < 1 || length > 3) return COORDINATE_FORMAT;
+        if (length == 1) return COORDINATE_NUMBER;
+        int x = 0;
+        for (int i = 1; i < length; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') return COORDINATE_NUMBER;
+            x = x * 10 + c - '0';
+        }
+        if (x < 1 || x > Map.SIZE) return COORDINATE_COLUMN;
+        int y = Character.toLowerCase(input.charAt(0)) - 'a' + 1;
+        if (y < 1 || y > Map.SIZE) return COORDINATE_ROW;
+        return Map.cell(x - 1, y - 1);
+    }
+}
@@ -0,0 +1,10 @@
+package enums;
+
+public enum ShotResult {
+    INVALID,
+    ALREADY_ATTACKED,
+    MISS,
+    HIT,
+    SUNK,
+    WIN;
+}
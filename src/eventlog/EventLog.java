@@ -0,0 +1,181 @@
+package eventlog;
+
+import engine.GameListener;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Ship;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class EventLog implements Closeable {
+    public static final int MAGIC = 0x4253454c;
+    public static final short VERSION = 1;
+    public static final int RECORD_SIZE = 16;
+
+    public static final byte PLACEMENT = 1;
+    public static final byte SHOT = 2;
+
+    public static final int GAME_ID = 0;
+    public static final int TYPE = 8;
+    public static final int PLAYER = 9;
+    public static final int CELL = 10;
+    public static final int SHIP_TYPE = 11;
+    public static final int VALUE = 12;
+
+    private static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    private static final long DEFAULT_SYNC_INTERVAL = 100;
+
+    private final FileChannel channel;
+    private final long segmentSize;
+    private final long syncInterval;
+    private final Thread syncer;
+    private volatile MappedByteBuffer segment;
+    private final Queue<MappedByteBuffer> retired = new ConcurrentLinkedQueue<>();
+    private final long maxGameId;
+    private long segmentStart;
+    private volatile long position;
+    private volatile boolean open = true;
+
+    public EventLog(Path path) throws IOException {
+        this(path, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_INTERVAL);
+    }
+
+    public EventLog(Path path, long segmentSize, long syncIntervalMillis) throws IOException {
+        if (segmentSize % RECORD_SIZE != 0) throw new IllegalArgumentException("Segment size must be a multiple of " + RECORD_SIZE);
+        this.segmentSize = segmentSize;
+        this.syncInterval = syncIntervalMillis;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        position = EventReader.findEnd(channel);
+        if (position == 0) {
+            map(0);
+            segment.putInt(0, MAGIC);
+            segment.putShort(4, VERSION);
+            segment.putShort(6, (short) RECORD_SIZE);
+            position = RECORD_SIZE;
+        } else {
+            map(position - position % segmentSize);
+        }
+        maxGameId = position > RECORD_SIZE ? findMaxGameId(path) : 0;
+        syncer = new Thread(this::syncLoop, "event-log-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getMaxGameId() {
+        return maxGameId;
+    }
+
+    public GameListener listener(long gameId) {
+        return new GameListener() {
+            @Override
+            public void onPlacement(int playerNumber, Ship ship) {
+                appendPlacement(gameId, playerNumber, ship);
+            }
+
+            @Override
+            public void onShot(int playerNumber, int cell, ShotResult result, ShipType type) {
+                appendShot(gameId, playerNumber, cell, result, type);
+            }
+        };
+    }
+
+    public void appendPlacement(long gameId, int playerNumber, Ship ship) {
+        int origin = Map.cell(ship.getxLocation() - 1, ship.getyLocation() - 1);
+        append(gameId, PLACEMENT, playerNumber, origin, ship.getType().ordinal(), ship.getDirection().ordinal());
+    }
+
+    public void appendShot(long gameId, int playerNumber, int cell, ShotResult result, ShipType type) {
+        append(gameId, SHOT, playerNumber, cell, type.ordinal(), result.ordinal());
+    }
+
+    private void append(long gameId, byte type, int playerNumber, int cell, int shipType, int value) {
+        if (!open) throw new IllegalStateException("Event log is closed");
+        if (position - segmentStart == segmentSize) {
+            try {
+                map(position);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not extend event log", e);
+            }
+        }
+        MappedByteBuffer buffer = segment;
+        int offset = (int) (position - segmentStart);
+        buffer.putLong(offset + GAME_ID, gameId);
+        buffer.put(offset + PLAYER, (byte) playerNumber);
+        buffer.put(offset + CELL, (byte) cell);
+        buffer.put(offset + SHIP_TYPE, (byte) shipType);
+        buffer.put(offset + VALUE, (byte) value);
+        buffer.put(offset + TYPE, type);
+        position += RECORD_SIZE;
+    }
+
+    public void sync() {
+        MappedByteBuffer previous;
+        while ((previous = retired.poll()) != null) previous.force();
+        MappedByteBuffer buffer = segment;
+        if (buffer != null) buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!open) return;
+        open = false;
+        syncer.interrupt();
+        try {
+            syncer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+        segment = null;
+        retired.clear();
+        try {
+            channel.truncate(position);
+        } catch (IOException e) {
+            // readers find the end past the zeroed tail
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void map(long start) throws IOException {
+        MappedByteBuffer previous = segment;
+        if (previous != null) retired.add(previous);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, start, segmentSize);
+        segmentStart = start;
+    }
+
+    private static long findMaxGameId(Path path) throws IOException {
+        long max = 0;
+        try (EventReader reader = new EventReader(path)) {
+            while (reader.next()) max = Math.max(max, reader.getGameId());
+        }
+        return max;
+    }
+
+    private void syncLoop() {
+        long synced = position;
+        while (open) {
+            try {
+                Thread.sleep(syncInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long current = position;
+            if (current != synced) {
+                sync();
+                synced = current;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class EventReader implements Closeable {
+    private static final long WINDOW_SIZE = 64L << 20;
+
+    private final FileChannel channel;
+    private final long end;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private int offset = -EventLog.RECORD_SIZE;
+
+    public EventReader(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        end = findEnd(channel);
+        if (end == 0) throw new IOException("Empty event log " + path);
+        mapWindow(0);
+        if (window.getInt(0) != EventLog.MAGIC) throw new IOException("Not an event log " + path);
+        if (window.getShort(4) != EventLog.VERSION) throw new IOException("Unsupported event log version " + window.getShort(4));
+        position = 0;
+    }
+
+    public boolean next() throws IOException {
+        long nextPosition = position + EventLog.RECORD_SIZE;
+        if (nextPosition >= end) return false;
+        if (nextPosition - windowStart >= window.capacity()) mapWindow(nextPosition);
+        position = nextPosition;
+        offset = (int) (position - windowStart);
+        return true;
+    }
+
+    public long getGameId() {
+        return window.getLong(offset + EventLog.GAME_ID);
+    }
+
+    public byte getType() {
+        return window.get(offset + EventLog.TYPE);
+    }
+
+    public int getPlayer() {
+        return window.get(offset + EventLog.PLAYER);
+    }
+
+    public int getCell() {
+        return window.get(offset + EventLog.CELL);
+    }
+
+    public int getShipType() {
+        return window.get(offset + EventLog.SHIP_TYPE);
+    }
+
+    public int getValue() {
+        return window.get(offset + EventLog.VALUE);
+    }
+
+    public long getRecordCount() {
+        return end / EventLog.RECORD_SIZE - 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void mapWindow(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, end - start));
+    }
+
+    static long findEnd(FileChannel channel) throws IOException {
+        long size = channel.size() - channel.size() % EventLog.RECORD_SIZE;
+        if (size == 0) return 0;
+        long low = 1;
+        long high = size / EventLog.RECORD_SIZE;
+        if (typeAt(channel, (high - 1) * EventLog.RECORD_SIZE) != 0) return size;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (typeAt(channel, mid * EventLog.RECORD_SIZE) != 0) low = mid + 1;
+            else high = mid;
+        }
+        return low * EventLog.RECORD_SIZE;
+    }
+
+    private static byte typeAt(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        channel.read(buffer, position + EventLog.TYPE);
+        return buffer.get(0);
+    }
+}
@@ -0,0 +1,134 @@
+package eventlog;
+
+import engine.GameEngine;
+import enums.Direction;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Ship;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+public class EventReplay {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final ShotResult[] RESULTS = ShotResult.values();
+
+    public interface GameVisitor {
+        void visit(long gameId, GameEngine engine, int shots);
+    }
+
+    private EventReplay() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: EventReplay <log> [gameId shots | --script]");
+            return;
+        }
+        Path path = Path.of(args[0]);
+        if (args.length >= 2 && args[1].equals("--script")) {
+            Writer script = new BufferedWriter(new OutputStreamWriter(System.out));
+            writeScript(path, script);
+            script.flush();
+            return;
+        }
+        if (args.length >= 3) {
+            GameEngine engine = replay(path, Long.parseLong(args[1]), Integer.parseInt(args[2]));
+            System.out.println("Turn: " + engine.getTurn() + ", winner: " + (engine.isOver() ? "player " + engine.getPlayerNumber(engine.getWinner()) : "none"));
+            return;
+        }
+        long finished = replayAll(path, (gameId, engine, shots) ->
+                System.out.println(gameId + ": " + shots + " shots, winner " + (engine.isOver() ? "player " + engine.getPlayerNumber(engine.getWinner()) : "none")));
+        System.out.println(finished + " finished games");
+    }
+
+    public static GameEngine replay(Path path, long gameId, int shots) throws IOException {
+        GameEngine engine = new GameEngine();
+        int applied = 0;
+        try (EventReader reader = new EventReader(path)) {
+            while (reader.next()) {
+                if (reader.getGameId() != gameId) continue;
+                if (reader.getType() == EventLog.SHOT) {
+                    if (shots >= 0 && applied == shots) break;
+                    applied++;
+                }
+                apply(engine, reader);
+            }
+        }
+        return engine;
+    }
+
+    public static long replayAll(Path path, GameVisitor visitor) throws IOException {
+        HashMap<Long, GameEngine> games = new HashMap<>();
+        HashMap<Long, Integer> shots = new HashMap<>();
+        long finished = 0;
+        try (EventReader reader = new EventReader(path)) {
+            while (reader.next()) {
+                long gameId = reader.getGameId();
+                GameEngine engine = games.computeIfAbsent(gameId, id -> new GameEngine());
+                apply(engine, reader);
+                if (reader.getType() != EventLog.SHOT) continue;
+                int count = shots.merge(gameId, 1, Integer::sum);
+                if (engine.isOver()) {
+                    visitor.visit(gameId, engine, count);
+                    games.remove(gameId);
+                    shots.remove(gameId);
+                    finished++;
+                }
+            }
+        }
+        for (java.util.Map.Entry<Long, GameEngine> game : games.entrySet()) {
+            visitor.visit(game.getKey(), game.getValue(), shots.getOrDefault(game.getKey(), 0));
+        }
+        return finished;
+    }
+
+    public static void writeScript(Path path, Appendable out) throws IOException {
+        LinkedHashMap<Long, StringBuilder> games = new LinkedHashMap<>();
+        try (EventReader reader = new EventReader(path)) {
+            while (reader.next()) {
+                long gameId = reader.getGameId();
+                StringBuilder game = games.computeIfAbsent(gameId, id -> new StringBuilder("game " + id + "\n"));
+                int cell = reader.getCell();
+                String coordinates = (char) ('A' + Map.cellY(cell)) + String.valueOf(Map.cellX(cell) + 1);
+                String type = SHIP_TYPES[reader.getShipType()].toString().toLowerCase();
+                if (reader.getType() == EventLog.PLACEMENT) {
+                    game.append("place ").append(reader.getPlayer()).append(' ').append(type).append(' ')
+                            .append(coordinates).append(' ').append(DIRECTIONS[reader.getValue()].toString().toLowerCase());
+                } else {
+                    ShotResult result = RESULTS[reader.getValue()];
+                    game.append("shoot ").append(coordinates).append(' ').append(result.toString().toLowerCase());
+                    if (result != ShotResult.MISS) game.append(' ').append(type);
+                    if (result == ShotResult.WIN) game.append("\nwinner ").append(reader.getPlayer());
+                }
+                game.append('\n');
+                if (reader.getType() == EventLog.SHOT && RESULTS[reader.getValue()] == ShotResult.WIN) {
+                    out.append(games.remove(gameId));
+                }
+            }
+        }
+        for (StringBuilder game : games.values()) out.append(game);
+    }
+
+    public static ShotResult apply(GameEngine engine, EventReader reader) {
+        int cell = reader.getCell();
+        if (reader.getType() == EventLog.PLACEMENT) {
+            ShipType type = SHIP_TYPES[reader.getShipType()];
+            Direction direction = DIRECTIONS[reader.getValue()];
+            engine.getPlayer(reader.getPlayer()).setShip(new Ship(Map.cellX(cell) + 1, Map.cellY(cell) + 1, direction, type));
+            return null;
+        }
+        if (engine.getTurn() != reader.getPlayer()) engine.changeTurn();
+        ShotResult result = engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+        if (result != RESULTS[reader.getValue()]) {
+            throw new IllegalStateException("Replayed " + result + " but log recorded " + RESULTS[reader.getValue()]);
+        }
+        return result;
+    }
+}
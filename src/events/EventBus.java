@@ -0,0 +1,72 @@
+package events;
+
+import engine.GameListener;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Ship;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class EventBus {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final AtomicLong published = new AtomicLong();
+    private long sequence;
+
+    public EventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EventBus(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+        }
+        slots = new AtomicLongArray(capacity);
+        mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) slots.set(i, (long) (i - capacity) << 32);
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getPublished() {
+        return published.get();
+    }
+
+    public long publish(int event) {
+        long s = sequence++;
+        slots.lazySet((int) s & mask, s << 32 | event & 0xffffffffL);
+        published.lazySet(s + 1);
+        return s;
+    }
+
+    public Subscription subscribe() {
+        return new Subscription(this, published.get());
+    }
+
+    public GameListener listener() {
+        return new GameListener() {
+            @Override
+            public void onPlacement(int playerNumber, Ship ship) {
+                publish(GameEvent.placement(playerNumber, ship));
+            }
+
+            @Override
+            public void onShot(int playerNumber, int cell, ShotResult result, ShipType type) {
+                publish(GameEvent.shot(playerNumber, cell, result, type));
+            }
+
+            @Override
+            public void onTurn(int playerNumber) {
+                publish(GameEvent.turn(playerNumber));
+            }
+        };
+    }
+
+    long slot(long s) {
+        return slots.get((int) s & mask);
+    }
+}
@@ -0,0 +1,6 @@
+package events;
+
+@FunctionalInterface
+public interface EventHandler {
+    void onEvent(long sequence, int event);
+}
@@ -0,0 +1,92 @@
+package events;
+
+import enums.Direction;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Ship;
+
+public final class GameEvent {
+    public static final int PLACEMENT = 1;
+    public static final int MISS = 2;
+    public static final int HIT = 3;
+    public static final int SUNK = 4;
+    public static final int WIN = 5;
+    public static final int TURN = 6;
+
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int PLAYER_SHIFT = 4;
+    private static final int SHIP_TYPE_SHIFT = 6;
+    private static final int DIRECTION_SHIFT = 10;
+    private static final int CELL_SHIFT = 12;
+
+    private GameEvent() {
+    }
+
+    public static int placement(int playerNumber, Ship ship) {
+        int cell = Map.cell(ship.getxLocation() - 1, ship.getyLocation() - 1);
+        return encode(PLACEMENT, playerNumber, cell, ship.getType(), ship.getDirection());
+    }
+
+    public static int shot(int playerNumber, int cell, ShotResult result, ShipType type) {
+        int kind = switch (result) {
+            case HIT -> HIT;
+            case SUNK -> SUNK;
+            case WIN -> WIN;
+            default -> MISS;
+        };
+        return encode(kind, playerNumber, cell, type, Direction.NORTH);
+    }
+
+    public static int turn(int playerNumber) {
+        return encode(TURN, playerNumber, 0, ShipType.NONE, Direction.NORTH);
+    }
+
+    public static int encode(int kind, int playerNumber, int cell, ShipType type, Direction direction) {
+        return kind | playerNumber << PLAYER_SHIFT | type.ordinal() << SHIP_TYPE_SHIFT
+                | direction.ordinal() << DIRECTION_SHIFT | cell << CELL_SHIFT;
+    }
+
+    public static int kind(int event) {
+        return event & 0xf;
+    }
+
+    public static int player(int event) {
+        return event >>> PLAYER_SHIFT & 0x3;
+    }
+
+    public static ShipType shipType(int event) {
+        return SHIP_TYPES[event >>> SHIP_TYPE_SHIFT & 0xf];
+    }
+
+    public static Direction direction(int event) {
+        return DIRECTIONS[event >>> DIRECTION_SHIFT & 0x3];
+    }
+
+    public static int cell(int event) {
+        return event >>> CELL_SHIFT;
+    }
+
+    public static boolean isShot(int event) {
+        int kind = kind(event);
+        return kind >= MISS && kind <= WIN;
+    }
+
+    public static String describe(int event) {
+        int cell = cell(event);
+        String coordinates = (char) ('A' + Map.cellY(cell)) + String.valueOf(Map.cellX(cell) + 1);
+        String type = shipType(event).toString().toLowerCase().replaceAll("_", " ");
+        String player = "Player " + player(event);
+        return switch (kind(event)) {
+            case PLACEMENT -> player + " placed " + type + " at " + coordinates + " facing "
+                    + direction(event).toString().toLowerCase();
+            case MISS -> player + " missed at " + coordinates;
+            case HIT -> player + " hit " + type + " at " + coordinates;
+            case SUNK -> player + " sunk " + type + " at " + coordinates;
+            case WIN -> player + " sunk " + type + " at " + coordinates + " and won";
+            case TURN -> player + " to move";
+            default -> "Unknown event " + Integer.toHexString(event);
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package events;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class Subscription implements AutoCloseable {
+    private static final int SPINS = 100;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    private final EventBus bus;
+    private final int capacity;
+    private long cursor;
+    private long dropped;
+    private volatile boolean closed;
+    private Thread thread;
+
+    Subscription(EventBus bus, long cursor) {
+        this.bus = bus;
+        this.capacity = bus.getCapacity();
+        this.cursor = cursor;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getLag() {
+        return Math.max(bus.getPublished() - cursor, 0);
+    }
+
+    public int poll(EventHandler handler) {
+        return poll(handler, Integer.MAX_VALUE);
+    }
+
+    public int poll(EventHandler handler, int limit) {
+        int delivered = 0;
+        while (delivered < limit) {
+            long slot = bus.slot(cursor);
+            int behind = (int) (slot >>> 32) - (int) cursor;
+            if (behind < 0) break;
+            if (behind > 0) {
+                long oldest = cursor + behind - capacity + 1;
+                dropped += oldest - cursor;
+                cursor = oldest;
+                continue;
+            }
+            handler.onEvent(cursor++, (int) slot);
+            delivered++;
+        }
+        return delivered;
+    }
+
+    public Thread start(String name, EventHandler handler) {
+        if (thread != null) throw new IllegalStateException("Subscription already started");
+        thread = new Thread(() -> {
+            int idle = 0;
+            while (!closed) {
+                if (poll(handler) > 0) {
+                    idle = 0;
+                } else if (++idle > SPINS) {
+                    LockSupport.parkNanos(Math.min(1000L << Math.min(idle - SPINS, 10), MAX_PARK_NANOS));
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+            poll(handler);
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (thread == null) return;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
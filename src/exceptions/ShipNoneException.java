@@ -1,4 +1,4 @@
 package exceptions;
 
-public class ShipNoneException extends Throwable {
+public class ShipNoneException extends Exception {
 }
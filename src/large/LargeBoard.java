@@ -0,0 +1,225 @@
+package large;
+
+import enums.Direction;
+import enums.MapStatus;
+import enums.ShotResult;
+import objects.Fleet;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+public class LargeBoard {
+    public static final int MAX_SIZE = 10_000;
+    public static final int NO_SHIP = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int width;
+    private final int height;
+    private final LongHashSet hits = new LongHashSet();
+    private final LongHashSet misses = new LongHashSet();
+    private final LongIntHashMap occupancy = new LongIntHashMap();
+
+    private int[] shipX = new int[16];
+    private int[] shipY = new int[16];
+    private int[] shipLength = new int[16];
+    private int[] shipHits = new int[16];
+    private byte[] shipDirection = new byte[16];
+    private int[] shipClass = new int[16];
+    private Fleet fleet;
+    private int shipCount;
+    private int shipsAfloat;
+    private int lastShip = NO_SHIP;
+
+    public LargeBoard(int width, int height) {
+        if (width < 1 || width > MAX_SIZE || height < 1 || height > MAX_SIZE) {
+            throw new IllegalArgumentException("Board must be between 1x1 and " + MAX_SIZE + "x" + MAX_SIZE);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long key(int x, int y) {
+        return (long) (y - 1) * width + (x - 1);
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 1 && x <= width && y >= 1 && y <= height;
+    }
+
+    public int placeShip(int x, int y, Direction direction, int length) {
+        return placeShip(x, y, direction, length, -1);
+    }
+
+    public int placeShip(int x, int y, Direction direction, int length, int shipClass) {
+        if (length < 1 || !getShipLocationLegal(x, y, direction, length)) return NO_SHIP;
+        if (shipCount == shipX.length) {
+            int capacity = shipCount * 2;
+            shipX = Arrays.copyOf(shipX, capacity);
+            shipY = Arrays.copyOf(shipY, capacity);
+            shipLength = Arrays.copyOf(shipLength, capacity);
+            shipHits = Arrays.copyOf(shipHits, capacity);
+            shipDirection = Arrays.copyOf(shipDirection, capacity);
+            this.shipClass = Arrays.copyOf(this.shipClass, capacity);
+        }
+        int id = shipCount++;
+        shipX[id] = x;
+        shipY[id] = y;
+        shipLength[id] = length;
+        shipDirection[id] = (byte) direction.ordinal();
+        this.shipClass[id] = shipClass;
+        for (int i = 0; i < length; i++) {
+            occupancy.put(key(x + dx(direction) * i, y + dy(direction) * i), id);
+        }
+        shipsAfloat++;
+        return id;
+    }
+
+    public boolean getShipLocationLegal(int x, int y, Direction direction, int length) {
+        int endX = x + dx(direction) * (length - 1);
+        int endY = y + dy(direction) * (length - 1);
+        if (!contains(x, y) || !contains(endX, endY)) return false;
+        for (int i = 0; i < length; i++) {
+            if (occupancy.containsKey(key(x + dx(direction) * i, y + dy(direction) * i))) return false;
+        }
+        return true;
+    }
+
+    public int placeRandomFleet(int ships, int[] lengths, RandomGenerator random) {
+        int placed = 0;
+        int attempts = 0;
+        int maxAttempts = ships * 1000;
+        while (placed < ships && attempts++ < maxAttempts) {
+            int length = lengths[placed % lengths.length];
+            int x = random.nextInt(width) + 1;
+            int y = random.nextInt(height) + 1;
+            Direction direction = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+            if (placeShip(x, y, direction, length) != NO_SHIP) placed++;
+        }
+        return placed;
+    }
+
+    public void clearShips() {
+        occupancy.clear();
+        shipCount = 0;
+        shipsAfloat = 0;
+        lastShip = NO_SHIP;
+        fleet = null;
+    }
+
+    public int placeRandomFleet(Fleet fleet, RandomGenerator random) {
+        clearShips();
+        this.fleet = fleet;
+        Integer[] order = new Integer[fleet.getClassCount()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> fleet.getLength(b) - fleet.getLength(a));
+        int placed = 0;
+        for (int shipClass : order) {
+            int length = fleet.getLength(shipClass);
+            for (int n = 0; n < fleet.getCount(shipClass); n++) {
+                for (int attempt = 0; attempt < 1000; attempt++) {
+                    int x = random.nextInt(width) + 1;
+                    int y = random.nextInt(height) + 1;
+                    Direction direction = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+                    if (placeShip(x, y, direction, length, shipClass) != NO_SHIP) {
+                        placed++;
+                        break;
+                    }
+                }
+            }
+        }
+        return placed;
+    }
+
+    public ShotResult receiveShot(int x, int y) {
+        if (!contains(x, y)) return ShotResult.INVALID;
+        if (shipsAfloat == 0 && shipCount > 0) return ShotResult.INVALID;
+        long key = key(x, y);
+        if (hits.contains(key) || misses.contains(key)) return ShotResult.ALREADY_ATTACKED;
+        int id = occupancy.get(key, NO_SHIP);
+        lastShip = id;
+        if (id == NO_SHIP) {
+            misses.add(key);
+            return ShotResult.MISS;
+        }
+        hits.add(key);
+        if (++shipHits[id] < shipLength[id]) return ShotResult.HIT;
+        if (--shipsAfloat > 0) return ShotResult.SUNK;
+        return ShotResult.WIN;
+    }
+
+    public MapStatus getStatus(int x, int y) {
+        long key = key(x, y);
+        if (hits.contains(key)) return MapStatus.HIT;
+        if (misses.contains(key)) return MapStatus.MISS;
+        return MapStatus.NOT_ATTACKED;
+    }
+
+    public int getShipAt(int x, int y) {
+        if (!contains(x, y)) return NO_SHIP;
+        return occupancy.get(key(x, y), NO_SHIP);
+    }
+
+    public int getLastShip() {
+        return lastShip;
+    }
+
+    public int getShipCount() {
+        return shipCount;
+    }
+
+    public int getShipsAfloat() {
+        return shipsAfloat;
+    }
+
+    public int getShipLength(int id) {
+        return shipLength[id];
+    }
+
+    public int getShipClass(int id) {
+        return shipClass[id];
+    }
+
+    public String getShipName(int id) {
+        return fleet != null && shipClass[id] >= 0 ? fleet.getName(shipClass[id]) : "ship";
+    }
+
+    public Direction getShipDirection(int id) {
+        return DIRECTIONS[shipDirection[id]];
+    }
+
+    public int getShipHits(int id) {
+        return shipHits[id];
+    }
+
+    public boolean isSunk(int id) {
+        return shipHits[id] == shipLength[id];
+    }
+
+    public int getShotCount() {
+        return hits.size() + misses.size();
+    }
+
+    private static int dx(Direction direction) {
+        return switch (direction) {
+            case EAST -> 1;
+            case WEST -> -1;
+            default -> 0;
+        };
+    }
+
+    private static int dy(Direction direction) {
+        return switch (direction) {
+            case SOUTH -> 1;
+            case NORTH -> -1;
+            default -> 0;
+        };
+    }
+}
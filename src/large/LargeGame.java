@@ -0,0 +1,60 @@
+package large;
+
+import enums.ShotResult;
+
+public class LargeGame {
+    private final LargeBoard board1;
+    private final LargeBoard board2;
+    private final String[] nicknames = new String[2];
+    private int turn = 1;
+    private int winner;
+
+    public LargeGame(int width, int height) {
+        board1 = new LargeBoard(width, height);
+        board2 = new LargeBoard(width, height);
+    }
+
+    public LargeBoard getBoard(int playerNumber) {
+        if (playerNumber == 1) return board1;
+        else return board2;
+    }
+
+    public LargeBoard getTargetBoard() {
+        return getBoard(getOtherTurn());
+    }
+
+    public String getNickname(int playerNumber) {
+        return nicknames[playerNumber - 1];
+    }
+
+    public void setNickname(int playerNumber, String nickname) {
+        nicknames[playerNumber - 1] = nickname;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getOtherTurn() {
+        return turn == 1 ? 2 : 1;
+    }
+
+    public void changeTurn() {
+        turn = getOtherTurn();
+    }
+
+    public boolean isOver() {
+        return winner != 0;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public ShotResult shoot(int x, int y) {
+        if (winner != 0) return ShotResult.INVALID;
+        ShotResult result = getTargetBoard().receiveShot(x, y);
+        if (result == ShotResult.WIN) winner = turn;
+        return result;
+    }
+}
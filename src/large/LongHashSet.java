@@ -0,0 +1,68 @@
+package large;
+
+import java.util.Arrays;
+
+public class LongHashSet {
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long key) {
+        int i = LongIntHashMap.hash(key) & mask;
+        while (true) {
+            long k = keys[i];
+            if (k == key) return true;
+            if (k == EMPTY) return false;
+            i = (i + 1) & mask;
+        }
+    }
+
+    public boolean add(long key) {
+        if (key < 0) throw new IllegalArgumentException("Keys must not be negative");
+        int i = LongIntHashMap.hash(key) & mask;
+        while (true) {
+            long k = keys[i];
+            if (k == key) return false;
+            if (k == EMPTY) break;
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        if (++size * 2 > keys.length) grow();
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private void grow() {
+        long[] old = keys;
+        keys = new long[old.length * 2];
+        Arrays.fill(keys, EMPTY);
+        mask = keys.length - 1;
+        for (long key : old) {
+            if (key == EMPTY) continue;
+            int i = LongIntHashMap.hash(key) & mask;
+            while (keys[i] != EMPTY) i = (i + 1) & mask;
+            keys[i] = key;
+        }
+    }
+}
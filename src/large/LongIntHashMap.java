@@ -0,0 +1,94 @@
+package large;
+
+import java.util.Arrays;
+
+public class LongIntHashMap {
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(long key, int missing) {
+        int i = hash(key) & mask;
+        while (true) {
+            long k = keys[i];
+            if (k == key) return values[i];
+            if (k == EMPTY) return missing;
+            i = (i + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        int i = hash(key) & mask;
+        while (true) {
+            long k = keys[i];
+            if (k == key) return true;
+            if (k == EMPTY) return false;
+            i = (i + 1) & mask;
+        }
+    }
+
+    public void put(long key, int value) {
+        if (key < 0) throw new IllegalArgumentException("Keys must not be negative");
+        int i = hash(key) & mask;
+        while (true) {
+            long k = keys[i];
+            if (k == key) {
+                values[i] = value;
+                return;
+            }
+            if (k == EMPTY) break;
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length) grow();
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key == EMPTY) continue;
+            int i = hash(key) & mask;
+            while (keys[i] != EMPTY) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = oldValues[j];
+        }
+    }
+}
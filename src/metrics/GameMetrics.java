@@ -0,0 +1,198 @@
+package metrics;
+
+import enums.ShipType;
+import enums.ShotResult;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class GameMetrics implements GameMetricsMXBean {
+    public static final String DOMAIN = "battleship";
+    public static final int SHOT_SAMPLE_RATE = 16;
+
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder[] hits = new LongAdder[SHIP_TYPES.length];
+    private final LongAdder[] sunk = new LongAdder[SHIP_TYPES.length];
+    private final LongAdder gamesCompleted = new LongAdder();
+    private final LongAdder placementsRejected = new LongAdder();
+    private final Histogram inputWait = new Histogram();
+    private final Histogram shotResolution = new Histogram();
+    private final Histogram render = new Histogram();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile double shotsPerSecond;
+    private long lastShots;
+    private long lastTick = System.nanoTime();
+
+    public GameMetrics() {
+        for (int i = 0; i < SHIP_TYPES.length; i++) {
+            hits[i] = new LongAdder();
+            sunk[i] = new LongAdder();
+        }
+        scheduler.scheduleAtFixedRate(this::tick, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public long startShot() {
+        return ThreadLocalRandom.current().nextInt(SHOT_SAMPLE_RATE) == 0 ? System.nanoTime() : 0;
+    }
+
+    public void recordShot(ShotResult result, ShipType type, long start) {
+        if (start != 0) shotResolution.record(System.nanoTime() - start);
+        switch (result) {
+            case MISS -> misses.increment();
+            case HIT -> hits[type.ordinal()].increment();
+            case SUNK, WIN -> {
+                hits[type.ordinal()].increment();
+                sunk[type.ordinal()].increment();
+            }
+            default -> {
+            }
+        }
+    }
+
+    public void recordInputWait(long nanos) {
+        inputWait.record(nanos);
+    }
+
+    public void recordRender(long nanos) {
+        render.record(nanos);
+    }
+
+    public void recordGameCompleted() {
+        gamesCompleted.increment();
+    }
+
+    public void recordPlacementRejected() {
+        placementsRejected.increment();
+    }
+
+    public Histogram getInputWait() {
+        return inputWait;
+    }
+
+    public Histogram getShotResolution() {
+        return shotResolution;
+    }
+
+    public Histogram getRender() {
+        return render;
+    }
+
+    @Override
+    public long getShots() {
+        long total = misses.sum();
+        for (LongAdder counter : hits) total += counter.sum();
+        return total;
+    }
+
+    @Override
+    public double getShotsPerSecond() {
+        return shotsPerSecond;
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public Map<String, Long> getHits() {
+        return byType(hits);
+    }
+
+    @Override
+    public Map<String, Long> getSunk() {
+        return byType(sunk);
+    }
+
+    @Override
+    public long getGamesCompleted() {
+        return gamesCompleted.sum();
+    }
+
+    @Override
+    public long getPlacementsRejected() {
+        return placementsRejected.sum();
+    }
+
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        register(server, new ObjectName(DOMAIN + ":type=GameMetrics"), this);
+        register(server, histogramName("inputWait"), inputWait);
+        register(server, histogramName("shotResolution"), shotResolution);
+        register(server, histogramName("render"), render);
+    }
+
+    public void startReporter(PrintStream out, long intervalSeconds) {
+        scheduler.scheduleAtFixedRate(() -> report(out), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void report(PrintStream out) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("shots=").append(getShots())
+                .append(" shots/s=").append(String.format("%.1f", shotsPerSecond))
+                .append(" misses=").append(getMisses())
+                .append(" games=").append(getGamesCompleted())
+                .append(" rejected=").append(getPlacementsRejected())
+                .append('\n');
+        sb.append("hits=").append(getHits()).append(" sunk=").append(getSunk()).append('\n');
+        append(sb, "inputWait", inputWait);
+        append(sb, "shotResolution", shotResolution);
+        append(sb, "render", render);
+        out.print(sb);
+        out.flush();
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        long total = getShots();
+        shotsPerSecond = (total - lastShots) * 1e9 / (now - lastTick);
+        lastShots = total;
+        lastTick = now;
+    }
+
+    private static Map<String, Long> byType(LongAdder[] counters) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (ShipType type : SHIP_TYPES) {
+            if (type != ShipType.NONE) values.put(type.name(), counters[type.ordinal()].sum());
+        }
+        return values;
+    }
+
+    private static ObjectName histogramName(String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=Histogram,name=" + name);
+    }
+
+    private static void register(MBeanServer server, ObjectName name, Object bean) throws JMException {
+        if (server.isRegistered(name)) server.unregisterMBean(name);
+        server.registerMBean(bean, name);
+    }
+
+    private static void append(StringBuilder sb, String name, Histogram histogram) {
+        sb.append(name)
+                .append(": count=").append(histogram.getCount())
+                .append(String.format(" mean=%.1fus", histogram.getMean() / 1000))
+                .append(" p50=").append(histogram.getP50() / 1000).append("us")
+                .append(" p99=").append(histogram.getP99() / 1000).append("us")
+                .append(" max=").append(histogram.getMax() / 1000).append("us")
+                .append('\n');
+    }
+}
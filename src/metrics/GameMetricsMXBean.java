@@ -0,0 +1,19 @@
+package metrics;
+
+import java.util.Map;
+
+public interface GameMetricsMXBean {
+    long getShots();
+
+    double getShotsPerSecond();
+
+    long getMisses();
+
+    Map<String, Long> getHits();
+
+    Map<String, Long> getSunk();
+
+    long getGamesCompleted();
+
+    long getPlacementsRejected();
+}
@@ -0,0 +1,104 @@
+package metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class SchedulerMetrics implements SchedulerMetricsMXBean {
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder deadlineMisses = new LongAdder();
+    private final LongAdder overruns = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder ponderHits = new LongAdder();
+    private final LongAdder steps = new LongAdder();
+    private final Histogram moveLatency = new Histogram();
+
+    public void recordMove(long nanos, boolean missed) {
+        moves.increment();
+        if (missed) deadlineMisses.increment();
+        moveLatency.record(nanos);
+    }
+
+    public void recordOverrun() {
+        overruns.increment();
+    }
+
+    public void recordFallback() {
+        fallbacks.increment();
+    }
+
+    public void recordPonderHit() {
+        ponderHits.increment();
+    }
+
+    public void recordSteps(long count) {
+        steps.add(count);
+    }
+
+    public Histogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    @Override
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    @Override
+    public long getDeadlineMisses() {
+        return deadlineMisses.sum();
+    }
+
+    @Override
+    public long getOverruns() {
+        return overruns.sum();
+    }
+
+    @Override
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public long getPonderHits() {
+        return ponderHits.sum();
+    }
+
+    @Override
+    public long getSteps() {
+        return steps.sum();
+    }
+
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        register(server, new ObjectName(GameMetrics.DOMAIN + ":type=SchedulerMetrics"), this);
+        register(server, new ObjectName(GameMetrics.DOMAIN + ":type=Histogram,name=moveLatency"), moveLatency);
+    }
+
+    public void report(PrintStream out) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("moves=").append(getMoves())
+                .append(" missed=").append(getDeadlineMisses())
+                .append(" overruns=").append(getOverruns())
+                .append(" fallbacks=").append(getFallbacks())
+                .append(" ponderHits=").append(getPonderHits())
+                .append(" steps=").append(getSteps())
+                .append('\n');
+        sb.append("moveLatency: count=").append(moveLatency.getCount())
+                .append(String.format(" mean=%.1fus", moveLatency.getMean() / 1000))
+                .append(" p50=").append(moveLatency.getP50() / 1000).append("us")
+                .append(" p99=").append(moveLatency.getP99() / 1000).append("us")
+                .append(" max=").append(moveLatency.getMax() / 1000).append("us")
+                .append('\n');
+        out.print(sb);
+        out.flush();
+    }
+
+    private static void register(MBeanServer server, ObjectName name, Object bean) throws JMException {
+        if (server.isRegistered(name)) server.unregisterMBean(name);
+        server.registerMBean(bean, name);
+    }
+}
@@ -0,0 +1,15 @@
+package metrics;
+
+public interface SchedulerMetricsMXBean {
+    long getMoves();
+
+    long getDeadlineMisses();
+
+    long getOverruns();
+
+    long getFallbacks();
+
+    long getPonderHits();
+
+    long getSteps();
+}
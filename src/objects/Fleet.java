@@ -0,0 +1,108 @@
+package objects;
+
+import enums.ShipType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class Fleet {
+    public static final int MAX_SHIPS = 1_000_000;
+
+    private final String[] names;
+    private final int[] lengths;
+    private final int[] counts;
+    private final int shipCount;
+
+    public Fleet(String[] names, int[] lengths, int[] counts) {
+        if (names.length != lengths.length || names.length != counts.length) {
+            throw new IllegalArgumentException("Fleet needs a name, length and count for every class");
+        }
+        long total = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (lengths[i] < 1) throw new IllegalArgumentException(names[i] + " needs a length of at least 1");
+            if (counts[i] < 0) throw new IllegalArgumentException(names[i] + " needs a count of at least 0");
+            total += counts[i];
+        }
+        if (total == 0 || total > MAX_SHIPS) throw new IllegalArgumentException("Fleet must have 1 to " + MAX_SHIPS + " ships");
+        this.names = names.clone();
+        this.lengths = lengths.clone();
+        this.counts = counts.clone();
+        shipCount = (int) total;
+    }
+
+    public static Fleet classic() {
+        return classic(ShipType.values().length - 1);
+    }
+
+    public static Fleet classic(int ships) {
+        ShipType[] types = ShipType.values();
+        int classes = types.length - 1;
+        String[] names = new String[classes];
+        int[] lengths = new int[classes];
+        int[] counts = new int[classes];
+        for (int i = 0; i < classes; i++) {
+            names[i] = types[i].toString().toLowerCase().replace('_', ' ');
+            lengths[i] = types[i].getLength();
+            counts[i] = ships / classes + (i < ships % classes ? 1 : 0);
+        }
+        return new Fleet(names, lengths, counts);
+    }
+
+    public static Fleet load(Path path) throws IOException {
+        return parse(Files.readAllLines(path));
+    }
+
+    public static Fleet parse(List<String> lines) {
+        String[] names = new String[lines.size()];
+        int[] lengths = new int[lines.size()];
+        int[] counts = new int[lines.size()];
+        int classes = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+            String[] words = line.split("\\s+");
+            if (words.length < 2 || words.length > 3) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": expected <name> <length> [count]");
+            }
+            try {
+                lengths[classes] = Integer.parseInt(words[1]);
+                counts[classes] = words.length == 3 ? Integer.parseInt(words[2]) : 1;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": length and count must be numbers");
+            }
+            names[classes++] = words[0].replace('_', ' ');
+        }
+        return new Fleet(Arrays.copyOf(names, classes), Arrays.copyOf(lengths, classes), Arrays.copyOf(counts, classes));
+    }
+
+    public int getClassCount() {
+        return names.length;
+    }
+
+    public String getName(int shipClass) {
+        return names[shipClass];
+    }
+
+    public int getLength(int shipClass) {
+        return lengths[shipClass];
+    }
+
+    public int getCount(int shipClass) {
+        return counts[shipClass];
+    }
+
+    public int getShipCount() {
+        return shipCount;
+    }
+
+    public long getCellCount() {
+        long cells = 0;
+        for (int i = 0; i < names.length; i++) cells += (long) lengths[i] * counts[i];
+        return cells;
+    }
+}
@@ -1,35 +1,189 @@
 package objects;
 
 import enums.MapStatus;
-import java.util.Arrays;
 
 public class Map {
-    private MapStatus[][] map = new MapStatus[][]{
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-            {MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED, MapStatus.NOT_ATTACKED},
-    };
+    public static final int SIZE = 10;
+    public static final int CELLS = SIZE * SIZE;
+
+    private long hitsLow;
+    private long hitsHigh;
+    private long missesLow;
+    private long missesHigh;
+
+    public Map() {
+    }
+
+    public Map(Map other) {
+        copyFrom(other);
+    }
+
+    public static int cell(int x, int y) {
+        return y * SIZE + x;
+    }
+
+    public static int cellX(int cell) {
+        return cell % SIZE;
+    }
+
+    public static int cellY(int cell) {
+        return cell / SIZE;
+    }
 
     public MapStatus[][] getMap() {
+        MapStatus[][] map = new MapStatus[SIZE][SIZE];
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                map[x][y] = getStatus(cell(x, y));
+            }
+        }
         return map;
     }
 
     public MapStatus getMap(int x, int y) {
-        return map[x - 1][y - 1];
+        return getStatus(cell(x - 1, y - 1));
     }
 
     public void setMap(MapStatus[][] map) {
-        this.map = map;
+        clear();
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                setStatus(cell(x, y), map[x][y]);
+            }
+        }
     }
 
     public void setMap(int x, int y, MapStatus value) {
-        map[x][y] = value;
+        setStatus(cell(x, y), value);
+    }
+
+    public MapStatus getStatus(int cell) {
+        if (isHit(cell)) return MapStatus.HIT;
+        if (isMiss(cell)) return MapStatus.MISS;
+        return MapStatus.NOT_ATTACKED;
+    }
+
+    public void setStatus(int cell, MapStatus value) {
+        long low = cell < 64 ? 1L << cell : 0;
+        long high = cell < 64 ? 0 : 1L << (cell - 64);
+        hitsLow &= ~low;
+        hitsHigh &= ~high;
+        missesLow &= ~low;
+        missesHigh &= ~high;
+        if (value == MapStatus.HIT) {
+            hitsLow |= low;
+            hitsHigh |= high;
+        } else if (value == MapStatus.MISS) {
+            missesLow |= low;
+            missesHigh |= high;
+        }
+    }
+
+    public boolean isHit(int cell) {
+        if (cell < 64) return (hitsLow & (1L << cell)) != 0;
+        return (hitsHigh & (1L << (cell - 64))) != 0;
+    }
+
+    public boolean isMiss(int cell) {
+        if (cell < 64) return (missesLow & (1L << cell)) != 0;
+        return (missesHigh & (1L << (cell - 64))) != 0;
+    }
+
+    public boolean isAttacked(int cell) {
+        if (cell < 64) return ((hitsLow | missesLow) & (1L << cell)) != 0;
+        return ((hitsHigh | missesHigh) & (1L << (cell - 64))) != 0;
+    }
+
+    public int getHitCount() {
+        return Long.bitCount(hitsLow) + Long.bitCount(hitsHigh);
+    }
+
+    public int getMissCount() {
+        return Long.bitCount(missesLow) + Long.bitCount(missesHigh);
+    }
+
+    public int getAttackedCount() {
+        return getHitCount() + getMissCount();
+    }
+
+    public Mask getHits(Mask out) {
+        return out.set(hitsLow, hitsHigh);
+    }
+
+    public Mask getMisses(Mask out) {
+        return out.set(missesLow, missesHigh);
+    }
+
+    public Mask getAttacked(Mask out) {
+        return out.set(hitsLow | missesLow, hitsHigh | missesHigh);
+    }
+
+    public Mask getUnattacked(Mask out) {
+        return out.set(~(hitsLow | missesLow), ~(hitsHigh | missesHigh));
+    }
+
+    public int countHits(Mask ships) {
+        return Long.bitCount(hitsLow & ships.getLow()) + Long.bitCount(hitsHigh & ships.getHigh());
+    }
+
+    public int countMisses(Mask ships) {
+        return Long.bitCount(missesLow & ships.getLow()) + Long.bitCount(missesHigh & ships.getHigh());
+    }
+
+    public boolean hitsIntersect(Mask ships) {
+        return ((hitsLow & ships.getLow()) | (hitsHigh & ships.getHigh())) != 0;
+    }
+
+    public boolean missesIntersect(Mask ships) {
+        return ((missesLow & ships.getLow()) | (missesHigh & ships.getHigh())) != 0;
+    }
+
+    public Mask unionHits(Mask ships) {
+        return ships.set(ships.getLow() | hitsLow, ships.getHigh() | hitsHigh);
+    }
+
+    public Mask intersectHits(Mask ships) {
+        return ships.set(ships.getLow() & hitsLow, ships.getHigh() & hitsHigh);
+    }
+
+    public long getHitsLow() {
+        return hitsLow;
+    }
+
+    public long getHitsHigh() {
+        return hitsHigh;
+    }
+
+    public long getMissesLow() {
+        return missesLow;
+    }
+
+    public long getMissesHigh() {
+        return missesHigh;
+    }
+
+    public void set(long hitsLow, long hitsHigh, long missesLow, long missesHigh) {
+        this.hitsLow = hitsLow;
+        this.hitsHigh = hitsHigh;
+        this.missesLow = missesLow;
+        this.missesHigh = missesHigh;
+    }
+
+    public Map copy() {
+        return new Map(this);
+    }
+
+    public void copyFrom(Map other) {
+        hitsLow = other.hitsLow;
+        hitsHigh = other.hitsHigh;
+        missesLow = other.missesLow;
+        missesHigh = other.missesHigh;
+    }
+
+    public void clear() {
+        hitsLow = 0;
+        hitsHigh = 0;
+        missesLow = 0;
+        missesHigh = 0;
     }
 }
@@ -0,0 +1,125 @@
+package objects;
+
+public class Mask {
+    private static final long HIGH_BITS = (1L << (Map.CELLS - 64)) - 1;
+
+    private long low;
+    private long high;
+
+    public Mask() {
+    }
+
+    public Mask(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    public static Mask all() {
+        return new Mask(-1L, HIGH_BITS);
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public Mask set(long low, long high) {
+        this.low = low;
+        this.high = high & HIGH_BITS;
+        return this;
+    }
+
+    public Mask copyFrom(Mask other) {
+        low = other.low;
+        high = other.high;
+        return this;
+    }
+
+    public Mask clear() {
+        low = 0;
+        high = 0;
+        return this;
+    }
+
+    public boolean get(int cell) {
+        if (cell < 64) return (low & (1L << cell)) != 0;
+        return (high & (1L << (cell - 64))) != 0;
+    }
+
+    public void set(int cell) {
+        if (cell < 64) low |= 1L << cell;
+        else high |= 1L << (cell - 64);
+    }
+
+    public void clear(int cell) {
+        if (cell < 64) low &= ~(1L << cell);
+        else high &= ~(1L << (cell - 64));
+    }
+
+    public int count() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    public boolean isEmpty() {
+        return (low | high) == 0;
+    }
+
+    public Mask and(Mask other) {
+        low &= other.low;
+        high &= other.high;
+        return this;
+    }
+
+    public Mask or(Mask other) {
+        low |= other.low;
+        high |= other.high;
+        return this;
+    }
+
+    public Mask andNot(Mask other) {
+        low &= ~other.low;
+        high &= ~other.high;
+        return this;
+    }
+
+    public Mask invert() {
+        low = ~low;
+        high = ~high & HIGH_BITS;
+        return this;
+    }
+
+    public boolean intersects(Mask other) {
+        return ((low & other.low) | (high & other.high)) != 0;
+    }
+
+    public boolean contains(Mask other) {
+        return (other.low & ~low) == 0 && (other.high & ~high) == 0;
+    }
+
+    public int nextSetBit(int from) {
+        if (from < 64) {
+            long word = low & (-1L << from);
+            if (word != 0) return Long.numberOfTrailingZeros(word);
+            from = 64;
+        }
+        if (from >= Map.CELLS) return -1;
+        long word = high & (-1L << (from - 64));
+        if (word != 0) return 64 + Long.numberOfTrailingZeros(word);
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Mask other)) return false;
+        return low == other.low && high == other.high;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(low) * 31 + Long.hashCode(high);
+    }
+}
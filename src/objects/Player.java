@@ -3,19 +3,28 @@ package objects;
 import enums.ShipType;
 import exceptions.ShipNoneException;
 import exceptions.ShipTypeMismatchException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 public class Player {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final byte EMPTY = (byte) ShipType.NONE.ordinal();
+
     private final Map map;
-    private Ship aircraftCarrier;
-    private Ship battleship;
-    private Ship destroyer;
-    private Ship submarine;
-    private Ship patrolBoat;
+    private final Ship[] ships = new Ship[SHIP_TYPES.length - 1];
+    private final byte[] occupancy = new byte[Map.CELLS];
+    private final long[] shipLow = new long[SHIP_TYPES.length];
+    private final long[] shipHigh = new long[SHIP_TYPES.length];
+    private final Mask scratch = new Mask();
+    private long occupiedLow;
+    private long occupiedHigh;
 
     private String nickname;
 
     public Player() {
         map = new Map();
+        Arrays.fill(occupancy, EMPTY);
     }
 
     public Map getMap() {
@@ -23,48 +32,53 @@ public class Player {
     }
 
     public Ship getAircraftCarrier() {
-        return aircraftCarrier;
+        return ships[ShipType.AIRCRAFT_CARRIER.ordinal()];
     }
 
     public Ship getBattleship() {
-        return battleship;
+        return ships[ShipType.BATTLESHIP.ordinal()];
     }
 
     public Ship getDestroyer() {
-        return destroyer;
+        return ships[ShipType.DESTROYER.ordinal()];
     }
 
     public Ship getSubmarine() {
-        return submarine;
+        return ships[ShipType.SUBMARINE.ordinal()];
     }
 
     public Ship getPatrolBoat() {
-        return patrolBoat;
+        return ships[ShipType.PATROL_BOAT.ordinal()];
     }
 
     public void setAircraftCarrier(Ship aircraftCarrier) throws ShipTypeMismatchException {
         if (aircraftCarrier.getType() != ShipType.AIRCRAFT_CARRIER) throw new ShipTypeMismatchException();
-        this.aircraftCarrier = aircraftCarrier;
+        ships[ShipType.AIRCRAFT_CARRIER.ordinal()] = aircraftCarrier;
+        index(ShipType.AIRCRAFT_CARRIER, aircraftCarrier);
     }
 
     public void setBattleship(Ship battleship) throws ShipTypeMismatchException {
         if (battleship.getType() != ShipType.BATTLESHIP) throw new ShipTypeMismatchException();
-        this.battleship = battleship;
+        ships[ShipType.BATTLESHIP.ordinal()] = battleship;
+        index(ShipType.BATTLESHIP, battleship);
     }
 
     public void setDestroyer(Ship destroyer) throws ShipTypeMismatchException {
         if (destroyer.getType() != ShipType.DESTROYER) throw new ShipTypeMismatchException();
-        this.destroyer = destroyer;
+        ships[ShipType.DESTROYER.ordinal()] = destroyer;
+        index(ShipType.DESTROYER, destroyer);
     }
 
     public void setSubmarine(Ship submarine) throws ShipTypeMismatchException {
         if (submarine.getType() != ShipType.SUBMARINE) throw new ShipTypeMismatchException();
-        this.submarine = submarine;
+        ships[ShipType.SUBMARINE.ordinal()] = submarine;
+        index(ShipType.SUBMARINE, submarine);
     }
 
     public void setPatrolBoat(Ship patrolBoat) throws ShipTypeMismatchException {
         if (patrolBoat.getType() != ShipType.PATROL_BOAT) throw new ShipTypeMismatchException();
-        this.patrolBoat = patrolBoat;
+        ships[ShipType.PATROL_BOAT.ordinal()] = patrolBoat;
+        index(ShipType.PATROL_BOAT, patrolBoat);
     }
 
     public Ship getShipByType(ShipType type) throws ShipNoneException, ShipTypeMismatchException {
@@ -101,12 +115,102 @@ public class Player {
         }
     }
 
+    public Ship getShip(ShipType type) {
+        return type == ShipType.NONE ? null : ships[type.ordinal()];
+    }
+
+    public boolean setShip(Ship ship) {
+        ShipType type = ship.getType();
+        if (type == ShipType.NONE) return false;
+        ships[type.ordinal()] = ship;
+        index(type, ship);
+        return true;
+    }
+
+    public void clearShips() {
+        Arrays.fill(ships, null);
+        Arrays.fill(occupancy, EMPTY);
+        Arrays.fill(shipLow, 0);
+        Arrays.fill(shipHigh, 0);
+        occupiedLow = 0;
+        occupiedHigh = 0;
+    }
+
+    public ShipType getShipTypeAt(int cell) {
+        return SHIP_TYPES[occupancy[cell]];
+    }
+
+    public Ship getShipAt(int cell) {
+        return getShip(SHIP_TYPES[occupancy[cell]]);
+    }
+
+    public long getOccupiedLow() {
+        return occupiedLow;
+    }
+
+    public long getOccupiedHigh() {
+        return occupiedHigh;
+    }
+
+    public long getShipLow(ShipType type) {
+        return shipLow[type.ordinal()];
+    }
+
+    public long getShipHigh(ShipType type) {
+        return shipHigh[type.ordinal()];
+    }
+
+    public boolean isFree(ShipType type, long low, long high) {
+        int t = type.ordinal();
+        return (low & occupiedLow & ~shipLow[t]) == 0 && (high & occupiedHigh & ~shipHigh[t]) == 0;
+    }
+
+    public boolean isSunk(ShipType type, Map shots) {
+        int t = type.ordinal();
+        return (shipLow[t] & ~shots.getHitsLow()) == 0 && (shipHigh[t] & ~shots.getHitsHigh()) == 0;
+    }
+
+    public List<Ship> getSunkShips(Map shots) {
+        List<Ship> sunk = new ArrayList<>();
+        for (Ship ship : ships) {
+            if (ship != null && isSunk(ship.getType(), shots)) sunk.add(ship);
+        }
+        return sunk;
+    }
+
+    public boolean isFleetSunk(Map shots) {
+        return (occupiedLow & ~shots.getHitsLow()) == 0 && (occupiedHigh & ~shots.getHitsHigh()) == 0;
+    }
+
+    private void index(ShipType type, Ship ship) {
+        int t = type.ordinal();
+        for (long bits = shipLow[t]; bits != 0; bits &= bits - 1) {
+            int cell = Long.numberOfTrailingZeros(bits);
+            if (occupancy[cell] == t) occupancy[cell] = EMPTY;
+        }
+        for (long bits = shipHigh[t]; bits != 0; bits &= bits - 1) {
+            int cell = 64 + Long.numberOfTrailingZeros(bits);
+            if (occupancy[cell] == t) occupancy[cell] = EMPTY;
+        }
+        ship.getMask(scratch);
+        shipLow[t] = scratch.getLow();
+        shipHigh[t] = scratch.getHigh();
+        occupiedLow = 0;
+        occupiedHigh = 0;
+        for (int i = 0; i < SHIP_TYPES.length; i++) {
+            occupiedLow |= shipLow[i];
+            occupiedHigh |= shipHigh[i];
+        }
+        for (long bits = shipLow[t]; bits != 0; bits &= bits - 1) occupancy[Long.numberOfTrailingZeros(bits)] = (byte) t;
+        for (long bits = shipHigh[t]; bits != 0; bits &= bits - 1) occupancy[64 + Long.numberOfTrailingZeros(bits)] = (byte) t;
+    }
+
     public String getNickname() {
         return nickname;
     }
 
     public Ship[] getShips() {
-        return new Ship[]{getAircraftCarrier(), getBattleship(), getDestroyer(), getSubmarine(), getPatrolBoat()};
+        return ships.clone();
     }
 
     public void setNickname(String nickname) {
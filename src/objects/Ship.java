@@ -48,6 +48,43 @@ public class Ship {
         return status;
     }
 
+    public boolean occupies(int x, int y) {
+        int length = getLength();
+        return switch (direction) {
+            case NORTH -> x == xLocation && y <= yLocation && yLocation - y < length;
+            case SOUTH -> x == xLocation && y >= yLocation && y - yLocation < length;
+            case EAST -> y == yLocation && x >= xLocation && x - xLocation < length;
+            case WEST -> y == yLocation && x <= xLocation && xLocation - x < length;
+        };
+    }
+
+    public Mask getMask(Mask out) {
+        out.clear();
+        int x = xLocation - 1;
+        int y = yLocation - 1;
+        for (int i = 0; i < getLength(); i++) {
+            if (x >= 0 && x < Map.SIZE && y >= 0 && y < Map.SIZE) out.set(Map.cell(x, y));
+            switch (direction) {
+                case NORTH -> y--;
+                case SOUTH -> y++;
+                case EAST -> x++;
+                case WEST -> x--;
+            }
+        }
+        return out;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public void setHits(int hits) {
+        this.hits = hits;
+        if (hits == 0) status = ShipStatus.OPERATIONAL;
+        else if (hits >= getLength()) status = ShipStatus.SUNK;
+        else status = ShipStatus.DAMAGED;
+    }
+
     public void hit() {
         hits++;
         if (hits == getLength()) status = ShipStatus.SUNK;
@@ -0,0 +1,347 @@
+package render;
+
+import engine.GameEngine;
+import enums.ShipType;
+import objects.Map;
+import objects.Player;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+public class FrameRenderer {
+    private static final byte[] LINE = "     +-----+-----+-----+-----+-----+-----+-----+-----+-----+-----+".getBytes();
+    private static final byte[] ANSI_CLEAR = "\033[H\033[2J".getBytes();
+    private static final int TAB_WIDTH = 8;
+    private static final int CLEAR_LINES = 100;
+
+    private static final int VIEW_NONE = 0;
+    private static final int VIEW_TURN = 1;
+    private static final int VIEW_SHIPS = 2;
+
+    private final GameEngine engine;
+    private final Counter counter;
+    private final PrintStream out;
+    private final boolean ansi;
+
+    private byte[] buffer = new byte[8192];
+    private int length;
+    private int line;
+    private int column;
+
+    private final byte[] shipLayer = new byte[Map.CELLS];
+    private final byte[] shadeLayer = new byte[Map.CELLS];
+    private HeatmapOverlay overlay;
+    private final byte[] cells = new byte[2 * Map.CELLS];
+    private final int[] cellLines = new int[2 * Map.CELLS];
+    private final int[] cellColumns = new int[2 * Map.CELLS];
+    private int cellCount;
+
+    private final byte[] screenCells = new byte[2 * Map.CELLS];
+    private int screenView = VIEW_NONE;
+    private Player screenPlayer;
+    private long screenMark;
+    private long inputLines;
+    private int screenRows;
+
+    private static final class Counter extends FilterOutputStream {
+        private long lines;
+
+        private Counter(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (b == '\n') lines++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') lines++;
+            }
+        }
+    }
+
+    public FrameRenderer(GameEngine engine, PrintStream out, boolean ansi) {
+        this.engine = engine;
+        counter = new Counter(out);
+        this.out = new PrintStream(counter, true);
+        this.ansi = ansi;
+        if (ansi) screenRows = terminalRows();
+    }
+
+    public boolean isAnsi() {
+        return ansi;
+    }
+
+    public PrintStream getOut() {
+        return out;
+    }
+
+    public int getScreenRows() {
+        return screenRows;
+    }
+
+    public void setScreenRows(int screenRows) {
+        this.screenRows = screenRows;
+    }
+
+    public void inputLine() {
+        inputLines++;
+    }
+
+    public HeatmapOverlay getOverlay() {
+        return overlay;
+    }
+
+    public void setOverlay(HeatmapOverlay overlay) {
+        this.overlay = overlay;
+    }
+
+    public void printTurn(Player player) {
+        begin();
+        newLine();
+        put("   ");
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < Map.SIZE; j++) {
+                put("     ");
+                putNumber(j + 1);
+            }
+            put("\t   ");
+        }
+        newLine();
+        fillShipLayer(player);
+        boolean shaded = overlay != null && overlay.getShades(player, shadeLayer);
+        Map shots = player.getMap();
+        Map opponentShots = engine.getOtherPlayer(player).getMap();
+        for (int i = 0; i < Map.SIZE; i++) {
+            putDoubleLine();
+            newLine();
+            putRowLabel(i);
+            for (int j = 0; j < Map.SIZE; j++) {
+                int cell = Map.cell(j, i);
+                putCell(shaded ? getCharacterWithShade(shots, cell) : getCharacter(shots, cell));
+            }
+            put("|\t");
+            putRowLabel(i);
+            for (int j = 0; j < Map.SIZE; j++) {
+                putCell(getCharacterWithShips(opponentShots, Map.cell(j, i)));
+            }
+            put("|");
+            newLine();
+        }
+        putDoubleLine();
+        newLine();
+        flush(VIEW_TURN, player);
+    }
+
+    public void printShips(Player player) {
+        begin();
+        newLine();
+        put("   ");
+        for (int i = 0; i < Map.SIZE; i++) {
+            put("     ");
+            putNumber(i + 1);
+        }
+        fillShipLayer(player);
+        Map opponentShots = engine.getOtherPlayer(player).getMap();
+        for (int i = 0; i < Map.SIZE; i++) {
+            newLine();
+            putLine();
+            newLine();
+            putRowLabel(i);
+            for (int j = 0; j < Map.SIZE; j++) {
+                putCell(getCharacterWithShips(opponentShots, Map.cell(j, i)));
+            }
+            put("|");
+        }
+        newLine();
+        putLine();
+        newLine();
+        flush(VIEW_SHIPS, player);
+    }
+
+    public void clear() {
+        if (ansi) {
+            out.write(ANSI_CLEAR, 0, ANSI_CLEAR.length);
+        } else {
+            begin();
+            for (int i = 0; i < CLEAR_LINES; i++) newLine();
+            out.write(buffer, 0, length);
+        }
+        out.flush();
+        invalidate();
+    }
+
+    public void invalidate() {
+        screenView = VIEW_NONE;
+        screenPlayer = null;
+    }
+
+    private void fillShipLayer(Player player) {
+        for (int cell = 0; cell < Map.CELLS; cell++) shipLayer[cell] = getSymbol(player.getShipTypeAt(cell));
+    }
+
+    private byte getCharacter(Map shots, int cell) {
+        if (shots.isHit(cell)) return 'X';
+        if (shots.isMiss(cell)) return 'O';
+        return ' ';
+    }
+
+    private byte getCharacterWithShade(Map shots, int cell) {
+        byte c = getCharacter(shots, cell);
+        return c != ' ' ? c : shadeLayer[cell];
+    }
+
+    private byte getCharacterWithShips(Map opponentShots, int cell) {
+        byte c = getCharacter(opponentShots, cell);
+        return c != ' ' ? c : shipLayer[cell];
+    }
+
+    private static byte getSymbol(ShipType type) {
+        return switch (type) {
+            case AIRCRAFT_CARRIER -> 'A';
+            case BATTLESHIP -> 'B';
+            case DESTROYER -> 'D';
+            case SUBMARINE -> 'S';
+            case PATROL_BOAT -> 'P';
+            default -> ' ';
+        };
+    }
+
+    private void begin() {
+        length = 0;
+        line = 1;
+        column = 1;
+        cellCount = 0;
+    }
+
+    private void flush(int view, Player player) {
+        int frameLines = line;
+        long below = counter.lines + inputLines - screenMark;
+        if (ansi && screenView == view && screenPlayer == player
+                && frameLines + below <= screenRows) {
+            int frameLength = length;
+            int cursor = frameLines + (int) below;
+            for (int i = 0; i < cellCount; i++) {
+                if (screenCells[i] == cells[i]) continue;
+                moveCursor(cursor, cellLines[i]);
+                cursor = cellLines[i];
+                putRaw("\033[");
+                putRawNumber(cellColumns[i]);
+                putRaw("G");
+                putRaw(cells[i]);
+            }
+            moveCursor(cursor, frameLines);
+            putRaw("\r\033[J");
+            out.write(buffer, frameLength, length - frameLength);
+        } else {
+            if (ansi) out.write(ANSI_CLEAR, 0, ANSI_CLEAR.length);
+            out.write(buffer, 0, length);
+        }
+        out.flush();
+        if (ansi) {
+            System.arraycopy(cells, 0, screenCells, 0, cellCount);
+            screenView = view;
+            screenPlayer = player;
+            screenMark = counter.lines + inputLines;
+        }
+    }
+
+    private void moveCursor(int from, int to) {
+        if (from == to) return;
+        putRaw("\033[");
+        putRawNumber(Math.abs(from - to));
+        putRaw(from > to ? "A" : "B");
+    }
+
+    private static int terminalRows() {
+        try {
+            String rows = System.getenv("LINES");
+            if (rows == null) {
+                Process stty = new ProcessBuilder("stty", "size")
+                        .redirectInput(ProcessBuilder.Redirect.from(new File("/dev/tty")))
+                        .redirectError(ProcessBuilder.Redirect.DISCARD).start();
+                String size = new String(stty.getInputStream().readAllBytes()).trim();
+                if (stty.waitFor() != 0) return 0;
+                rows = size.split("\\s+")[0];
+            }
+            return Integer.parseInt(rows.trim());
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private void putCell(byte c) {
+        put("|  ");
+        cellLines[cellCount] = line;
+        cellColumns[cellCount] = column;
+        cells[cellCount++] = c;
+        put(c);
+        put("  ");
+    }
+
+    private void putRowLabel(int i) {
+        put("  ");
+        put((byte) ('A' + i));
+        put("  ");
+    }
+
+    private void putLine() {
+        for (byte c : LINE) put(c);
+    }
+
+    private void putDoubleLine() {
+        putLine();
+        put("  ");
+        putLine();
+    }
+
+    private void putNumber(int n) {
+        if (n >= 10) putNumber(n / 10);
+        put((byte) ('0' + n % 10));
+    }
+
+    private void newLine() {
+        put((byte) '\n');
+    }
+
+    private void put(String s) {
+        for (int i = 0; i < s.length(); i++) put((byte) s.charAt(i));
+    }
+
+    private void put(byte c) {
+        putRaw(c);
+        if (c == '\n') {
+            line++;
+            column = 1;
+        } else if (c == '\t') {
+            column += TAB_WIDTH - (column - 1) % TAB_WIDTH;
+        } else {
+            column++;
+        }
+    }
+
+    private void putRawNumber(int n) {
+        if (n >= 10) putRawNumber(n / 10);
+        putRaw((byte) ('0' + n % 10));
+    }
+
+    private void putRaw(String s) {
+        for (int i = 0; i < s.length(); i++) putRaw((byte) s.charAt(i));
+    }
+
+    private void putRaw(byte c) {
+        if (length == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        buffer[length++] = c;
+    }
+}
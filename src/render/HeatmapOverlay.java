@@ -0,0 +1,86 @@
+package render;
+
+import ai.DensityTargeter;
+import engine.GameEngine;
+import engine.GameListener;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class HeatmapOverlay implements GameListener {
+    public static final byte[] SHADES = {' ', '.', ':', '*', '#'};
+
+    private final GameEngine engine;
+    private final DensityTargeter[] targeters = {null, new DensityTargeter(), new DensityTargeter()};
+    private final AtomicReferenceArray<Frame> frames = new AtomicReferenceArray<>(3);
+    private final int[] likelihood = new int[Map.CELLS];
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "heatmap");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Frame(long hitsLow, long hitsHigh, long missesLow, long missesHigh, byte[] shades) {
+        private boolean matches(Map shots) {
+            return hitsLow == shots.getHitsLow() && hitsHigh == shots.getHitsHigh()
+                    && missesLow == shots.getMissesLow() && missesHigh == shots.getMissesHigh();
+        }
+    }
+
+    public HeatmapOverlay(GameEngine engine) {
+        this.engine = engine;
+        load();
+    }
+
+    public void load() {
+        for (int playerNumber = 1; playerNumber <= 2; playerNumber++) {
+            int player = playerNumber;
+            Map shots = new Map(engine.getPlayer(player).getMap());
+            List<Ship> sunk = engine.getPlayer(3 - player).getSunkShips(shots);
+            worker.execute(() -> {
+                targeters[player].load(shots, sunk);
+                compute(player, shots);
+            });
+        }
+    }
+
+    @Override
+    public void onShot(int playerNumber, int cell, ShotResult result, ShipType type) {
+        Map shots = new Map(engine.getPlayer(playerNumber).getMap());
+        worker.execute(() -> {
+            targeters[playerNumber].onShot(shots, cell, result, type);
+            compute(playerNumber, shots);
+        });
+    }
+
+    public boolean getShades(Player player, byte[] out) {
+        Frame frame = frames.get(engine.getPlayerNumber(player));
+        if (frame == null || !frame.matches(player.getMap())) return false;
+        System.arraycopy(frame.shades, 0, out, 0, Map.CELLS);
+        return true;
+    }
+
+    public void close() {
+        worker.shutdownNow();
+    }
+
+    private void compute(int player, Map shots) {
+        targeters[player].getLikelihood(shots, likelihood);
+        int max = 0;
+        for (int value : likelihood) max = Math.max(max, value);
+        byte[] shades = new byte[Map.CELLS];
+        int levels = SHADES.length - 1;
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            int level = max == 0 ? 0 : (int) (((long) likelihood[cell] * levels + max - 1) / max);
+            shades[cell] = SHADES[level];
+        }
+        frames.set(player, new Frame(shots.getHitsLow(), shots.getHitsHigh(), shots.getMissesLow(),
+                shots.getMissesHigh(), shades));
+    }
+}
@@ -0,0 +1,121 @@
+package render;
+
+import enums.MapStatus;
+import large.LargeBoard;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+public class ViewportRenderer {
+    private static final int CLEAR_LINES = 100;
+    private static final int GAP = 6;
+    private static final int LABEL_WIDTH = 6;
+
+    private final PrintStream out;
+    private byte[] buffer = new byte[16384];
+    private int length;
+
+    public ViewportRenderer(PrintStream out) {
+        this.out = out;
+    }
+
+    public void printTurn(LargeBoard target, LargeBoard fleet, int x0, int y0, int columns, int rows) {
+        columns = Math.min(columns, target.getWidth());
+        rows = Math.min(rows, target.getHeight());
+        x0 = clamp(x0, 1, target.getWidth() - columns + 1);
+        y0 = clamp(y0, 1, target.getHeight() - rows + 1);
+        length = 0;
+
+        newLine();
+        put("Columns ");
+        putNumber(x0);
+        put("-");
+        putNumber(x0 + columns - 1);
+        put(", rows ");
+        putNumber(y0);
+        put("-");
+        putNumber(y0 + rows - 1);
+        put(" of ");
+        putNumber(target.getWidth());
+        put("x");
+        putNumber(target.getHeight());
+        newLine();
+        for (int board = 0; board < 2; board++) {
+            pad(LABEL_WIDTH);
+            for (int x = x0; x < x0 + columns; x++) {
+                put((byte) ' ');
+                put((byte) ('0' + x % 10));
+            }
+            pad(GAP);
+        }
+        newLine();
+        for (int y = y0; y < y0 + rows; y++) {
+            putRow(target, false, x0, y, columns);
+            pad(GAP);
+            putRow(fleet, true, x0, y, columns);
+            newLine();
+        }
+        out.write(buffer, 0, length);
+        out.flush();
+    }
+
+    public void clear() {
+        length = 0;
+        for (int i = 0; i < CLEAR_LINES; i++) newLine();
+        out.write(buffer, 0, length);
+        out.flush();
+    }
+
+    private void putRow(LargeBoard board, boolean showShips, int x0, int y, int columns) {
+        int digits = digits(y);
+        pad(LABEL_WIDTH - 1 - digits);
+        putNumber(y);
+        put((byte) ' ');
+        for (int x = x0; x < x0 + columns; x++) {
+            put((byte) ' ');
+            put(getCharacter(board, showShips, x, y));
+        }
+    }
+
+    private byte getCharacter(LargeBoard board, boolean showShips, int x, int y) {
+        MapStatus status = board.getStatus(x, y);
+        if (status == MapStatus.HIT) return 'X';
+        if (status == MapStatus.MISS) return 'O';
+        if (showShips && board.getShipAt(x, y) != LargeBoard.NO_SHIP) return '#';
+        return '.';
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int digits(int n) {
+        int digits = 1;
+        while (n >= 10) {
+            n /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void pad(int n) {
+        for (int i = 0; i < n; i++) put((byte) ' ');
+    }
+
+    private void putNumber(int n) {
+        if (n >= 10) putNumber(n / 10);
+        put((byte) ('0' + n % 10));
+    }
+
+    private void newLine() {
+        put((byte) '\n');
+    }
+
+    private void put(String s) {
+        for (int i = 0; i < s.length(); i++) put((byte) s.charAt(i));
+    }
+
+    private void put(byte c) {
+        if (length == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        buffer[length++] = c;
+    }
+}
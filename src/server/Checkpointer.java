@@ -0,0 +1,102 @@
+package server;
+
+import engine.GameEngine;
+import snapshot.SnapshotBatch;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class Checkpointer {
+    private final Path path;
+    private final long intervalNanos;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "checkpoint-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ByteBuffer[] buffers = new ByteBuffer[2];
+    private long[] ids = new long[64];
+    private GameEngine[] games = new GameEngine[64];
+    private int current;
+    private Future<?> pending;
+    private long next;
+    private long checkpoints;
+    private long skipped;
+    private long lastEncodeNanos;
+
+    public Checkpointer(Path path, long intervalMillis) {
+        this.path = path;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        next = System.nanoTime() + intervalNanos;
+    }
+
+    public long getIntervalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(intervalNanos);
+    }
+
+    public long getCheckpoints() {
+        return checkpoints;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getLastEncodeNanos() {
+        return lastEncodeNanos;
+    }
+
+    public boolean isDue(long now) {
+        return now - next >= 0;
+    }
+
+    public void checkpoint(List<Match> matches) {
+        long start = System.nanoTime();
+        next = start + intervalNanos;
+        if (pending != null && !pending.isDone()) {
+            skipped++;
+            return;
+        }
+        int count = 0;
+        int live = 0;
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            if (match.isOver()) continue;
+            matches.set(live++, match);
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                games = Arrays.copyOf(games, count * 2);
+            }
+            ids[count] = match.getId();
+            games[count++] = match.getEngine();
+        }
+        matches.subList(live, matches.size()).clear();
+        ByteBuffer buffer = SnapshotBatch.writeAll(ids, games, count, buffers[current]);
+        buffers[current] = buffer;
+        current ^= 1;
+        lastEncodeNanos = System.nanoTime() - start;
+        checkpoints++;
+        pending = writer.submit(() -> {
+            try {
+                SnapshotBatch.save(path, buffer);
+            } catch (IOException e) {
+                System.err.println("Checkpoint failed: " + e.getMessage());
+            }
+        });
+    }
+
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
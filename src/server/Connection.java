@@ -0,0 +1,117 @@
+package server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+class Connection {
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final List<Connection> dirty;
+    private boolean queued;
+    private final ByteBuffer in = ByteBuffer.allocate(4096);
+    private ByteBuffer out = ByteBuffer.allocate(1024);
+    private String nickname;
+    private Match match;
+    private int playerNumber;
+
+    Connection(SocketChannel channel, SelectionKey key, List<Connection> dirty) {
+        this.channel = channel;
+        this.key = key;
+        this.dirty = dirty;
+    }
+
+    String getNickname() {
+        return nickname;
+    }
+
+    void setNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    Match getMatch() {
+        return match;
+    }
+
+    int getPlayerNumber() {
+        return playerNumber;
+    }
+
+    void setMatch(Match match, int playerNumber) {
+        this.match = match;
+        this.playerNumber = playerNumber;
+    }
+
+    boolean read(LineHandler handler) throws IOException {
+        int n = channel.read(in);
+        if (n < 0) return false;
+        in.flip();
+        int start = in.position();
+        for (int i = start; i < in.limit(); i++) {
+            if (in.get(i) != '\n') continue;
+            int end = i > start && in.get(i - 1) == '\r' ? i - 1 : i;
+            handler.onLine(this, new String(in.array(), start, end - start, StandardCharsets.US_ASCII));
+            start = i + 1;
+        }
+        in.position(start);
+        in.compact();
+        if (!in.hasRemaining()) {
+            in.clear();
+            send("ERR LINE_TOO_LONG");
+        }
+        return true;
+    }
+
+    void send(String line) {
+        int needed = line.length() + 1;
+        if (out.remaining() < needed) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + needed));
+            out.flip();
+            bigger.put(out);
+            out = bigger;
+        }
+        for (int i = 0; i < line.length(); i++) out.put((byte) line.charAt(i));
+        out.put((byte) '\n');
+        if (!queued) {
+            queued = true;
+            dirty.add(this);
+        }
+    }
+
+    void flush() {
+        queued = false;
+        try {
+            write();
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    void write() throws IOException {
+        if (!key.isValid()) return;
+        out.flip();
+        channel.write(out);
+        out.compact();
+        boolean pending = out.position() > 0;
+        boolean registered = (key.interestOps() & SelectionKey.OP_WRITE) != 0;
+        if (pending != registered) {
+            key.interestOps(pending ? key.interestOps() | SelectionKey.OP_WRITE : key.interestOps() & ~SelectionKey.OP_WRITE);
+        }
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    interface LineHandler {
+        void onLine(Connection connection, String line);
+    }
+}
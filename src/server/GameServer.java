@@ -0,0 +1,266 @@
+package server;
+
+import engine.FleetGenerator;
+import engine.GameEngine;
+import engine.Validation;
+import enums.Direction;
+import enums.ShipType;
+import enums.ShotResult;
+import eventlog.EventLog;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class GameServer implements Runnable, Connection.LineHandler {
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final List<Connection> dirty = new ArrayList<>();
+    private final FleetGenerator fleetGenerator = new FleetGenerator(new SplittableRandom());
+    private final List<Match> matches = new ArrayList<>();
+    private final EventLog eventLog;
+    private Checkpointer checkpointer;
+    private volatile boolean running = true;
+    private Connection waiting;
+    private long nextMatchId;
+    private volatile long matchesCompleted;
+    private volatile int activeMatches;
+
+    public GameServer(InetSocketAddress address) throws IOException {
+        this(address, null);
+    }
+
+    public GameServer(InetSocketAddress address, EventLog eventLog) throws IOException {
+        this.eventLog = eventLog;
+        nextMatchId = eventLog != null ? eventLog.getMaxGameId() + 1 : 1;
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7777;
+        EventLog eventLog = args.length > 1 && !args[1].equals("-") ? new EventLog(Path.of(args[1])) : null;
+        GameServer server = new GameServer(new InetSocketAddress(port), eventLog);
+        if (args.length > 2) server.setCheckpointer(new Checkpointer(Path.of(args[2]), 5000));
+        System.out.println("Listening on port " + server.getPort());
+        server.run();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public Checkpointer getCheckpointer() {
+        return checkpointer;
+    }
+
+    public void setCheckpointer(Checkpointer checkpointer) {
+        this.checkpointer = checkpointer;
+    }
+
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                if (checkpointer == null) selector.select();
+                else selector.select(checkpointer.getIntervalMillis());
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) accept();
+                    else handle(key);
+                }
+                for (int i = 0; i < dirty.size(); i++) dirty.get(i).flush();
+                dirty.clear();
+                if (checkpointer != null && checkpointer.isDue(System.nanoTime())) checkpointer.checkpoint(matches);
+            }
+        } catch (IOException e) {
+            System.out.println("Server stopped: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) connection.close();
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+                if (eventLog != null) eventLog.close();
+                if (checkpointer != null) checkpointer.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key, dirty));
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable() && !connection.read(this)) {
+                disconnect(connection);
+                return;
+            }
+            if (key.isValid() && key.isWritable()) connection.write();
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    @Override
+    public void onLine(Connection connection, String line) {
+        String[] words = line.trim().split(" ");
+        switch (words[0].toUpperCase()) {
+            case "NEW" -> join(connection, words.length > 1 ? words[1] : "Player");
+            case "PLACE" -> place(connection, words);
+            case "SHOT" -> shoot(connection, words);
+            case "QUIT" -> disconnect(connection);
+            default -> connection.send("ERR UNKNOWN_COMMAND");
+        }
+    }
+
+    private void join(Connection connection, String nickname) {
+        if (connection.getMatch() != null && !connection.getMatch().isOver()) {
+            connection.send("ERR IN_MATCH");
+            return;
+        }
+        connection.setNickname(nickname);
+        connection.setMatch(null, 0);
+        if (waiting == null || waiting == connection) {
+            waiting = connection;
+            connection.send("WAITING");
+            return;
+        }
+        Match match = new Match(nextMatchId++, waiting, connection);
+        if (eventLog != null) match.getEngine().setListener(eventLog.listener(match.getId()));
+        if (checkpointer != null) matches.add(match);
+        waiting.setMatch(match, 1);
+        connection.setMatch(match, 2);
+        waiting.send("MATCH " + match.getId() + " 1 " + connection.getNickname());
+        connection.send("MATCH " + match.getId() + " 2 " + waiting.getNickname());
+        waiting = null;
+        activeMatches++;
+    }
+
+    private void place(Connection connection, String[] words) {
+        Match match = connection.getMatch();
+        if (match == null || match.isOver() || match.isStarted()) {
+            connection.send("ERR NOT_PLACING");
+            return;
+        }
+        GameEngine engine = match.getEngine();
+        Player player = engine.getPlayer(connection.getPlayerNumber());
+        if (words.length == 2 && words[1].equalsIgnoreCase("AUTO")) {
+            if (!engine.placeFleet(player, fleetGenerator)) engine.placeNewFleet(player, fleetGenerator);
+        } else {
+            Ship ship = parseShip(words);
+            if (ship == null) {
+                connection.send("ERR SYNTAX");
+                return;
+            }
+            if (!engine.placeShip(player, ship)) {
+                connection.send("ERR ILLEGAL");
+                return;
+            }
+        }
+        connection.send("OK PLACED");
+        if (engine.getFleetPlaced(engine.getPlayer(1)) && engine.getFleetPlaced(engine.getPlayer(2))) {
+            match.setStarted(true);
+            match.getConnection(engine.getTurn()).send("TURN");
+        }
+    }
+
+    private void shoot(Connection connection, String[] words) {
+        Match match = connection.getMatch();
+        if (match == null || !match.isStarted() || match.isOver()
+                || match.getEngine().getTurn() != connection.getPlayerNumber()) {
+            connection.send("ERR NOT_YOUR_TURN");
+            return;
+        }
+        int cell = words.length == 2 ? Validation.parseCell(words[1]) : -1;
+        if (cell < 0) {
+            connection.send("ERR SYNTAX");
+            return;
+        }
+        GameEngine engine = match.getEngine();
+        ShotResult result = engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+        if (result == ShotResult.ALREADY_ATTACKED || result == ShotResult.INVALID) {
+            connection.send("ERR " + result);
+            return;
+        }
+        String coordinates = words[1].toUpperCase();
+        String type = result == ShotResult.MISS ? "" : " " + engine.getLastShipType();
+        connection.send(result + " " + coordinates + type);
+        Connection opponent = match.getOpponent(connection);
+        opponent.send("INCOMING " + coordinates + " " + result + type);
+        if (result == ShotResult.WIN) {
+            match.setOver(true);
+            activeMatches--;
+            matchesCompleted++;
+            return;
+        }
+        engine.changeTurn();
+        opponent.send("TURN");
+    }
+
+    private void disconnect(Connection connection) {
+        if (waiting == connection) waiting = null;
+        Match match = connection.getMatch();
+        if (match != null && !match.isOver()) {
+            match.setOver(true);
+            activeMatches--;
+            match.getOpponent(connection).send("OPPONENT_LEFT");
+        }
+        connection.close();
+    }
+
+    public long getMatchesCompleted() {
+        return matchesCompleted;
+    }
+
+    public int getActiveMatches() {
+        return activeMatches;
+    }
+
+    private static Ship parseShip(String[] words) {
+        if (words.length != 4) return null;
+        ShipType type;
+        Direction direction;
+        try {
+            type = ShipType.valueOf(words[1].toUpperCase());
+            direction = Direction.valueOf(words[3].toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int cell = Validation.parseCell(words[2]);
+        if (cell < 0 || type == ShipType.NONE) return null;
+        return new Ship(Map.cellX(cell) + 1, Map.cellY(cell) + 1, direction, type);
+    }
+}
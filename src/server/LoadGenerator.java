@@ -0,0 +1,216 @@
+package server;
+
+import objects.Map;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+public class LoadGenerator {
+    private final InetSocketAddress address;
+    private final int clients;
+    private final int matches;
+    private final SplittableRandom random = new SplittableRandom();
+
+    private long[] latencies = new long[1 << 16];
+    private int latencyCount;
+    private int matchesCompleted;
+    private int connected;
+
+    public LoadGenerator(InetSocketAddress address, int clients, int matches) {
+        this.address = address;
+        this.clients = clients;
+        this.matches = matches;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = "localhost";
+        int port = 7777;
+        int clients = 1000;
+        int matches = 10000;
+        GameServer embedded = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--host" -> host = args[++i];
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                case "--clients" -> clients = Integer.parseInt(args[++i]);
+                case "--matches" -> matches = Integer.parseInt(args[++i]);
+                case "--embedded" -> {
+                    embedded = new GameServer(new InetSocketAddress("localhost", 0));
+                    new Thread(embedded, "game-server").start();
+                }
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (embedded != null) port = embedded.getPort();
+        Report report = new LoadGenerator(new InetSocketAddress(host, port), clients, matches).run();
+        System.out.println(report);
+        if (report.matches() < matches) System.out.println("Server closed every connection before " + matches + " matches");
+        if (embedded != null) embedded.close();
+    }
+
+    public Report run() throws IOException {
+        long start = System.nanoTime();
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < clients; i++) {
+                SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                channel.connect(address);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT);
+                key.attach(new Bot(channel, key, "bot" + i));
+            }
+            connected = clients;
+            while (matchesCompleted < matches && connected > 0) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    Bot bot = (Bot) key.attachment();
+                    try {
+                        if (key.isConnectable()) bot.connect();
+                        else bot.handle();
+                    } catch (IOException e) {
+                        bot.close();
+                    }
+                }
+            }
+            for (SelectionKey key : selector.keys()) key.channel().close();
+        }
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies, 0, latencyCount);
+        return new Report(matchesCompleted, latencyCount, elapsed, percentile(0.50), percentile(0.99));
+    }
+
+    private long percentile(double p) {
+        if (latencyCount == 0) return 0;
+        return latencies[(int) Math.min(latencyCount - 1, Math.ceil(p * latencyCount) - 1)];
+    }
+
+    private void record(long latency) {
+        if (latencyCount == latencies.length) latencies = Arrays.copyOf(latencies, latencyCount * 2);
+        latencies[latencyCount++] = latency;
+    }
+
+    public record Report(int matches, int moves, long elapsedNanos, long p50Nanos, long p99Nanos) {
+        public double getMatchesPerSecond() {
+            return matches * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d matches, %d moves in %.2f s: %.0f matches/s, move latency p50 %.1f us, p99 %.1f us",
+                    matches, moves, elapsedNanos / 1e9, getMatchesPerSecond(), p50Nanos / 1e3, p99Nanos / 1e3);
+        }
+    }
+
+    private final class Bot {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final String nickname;
+        private final ByteBuffer in = ByteBuffer.allocate(4096);
+        private ByteBuffer out = ByteBuffer.allocate(4096);
+        private final int[] order = new int[Map.CELLS];
+        private int next;
+        private long sentAt;
+        private boolean closed;
+
+        private Bot(SocketChannel channel, SelectionKey key, String nickname) {
+            this.channel = channel;
+            this.key = key;
+            this.nickname = nickname;
+        }
+
+        private void connect() throws IOException {
+            channel.finishConnect();
+            key.interestOps(SelectionKey.OP_READ);
+            send("NEW " + nickname);
+        }
+
+        private void handle() throws IOException {
+            if (key.isWritable()) flush();
+            if (!key.isReadable()) return;
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+            in.flip();
+            int start = in.position();
+            for (int i = start; i < in.limit(); i++) {
+                if (in.get(i) != '\n') continue;
+                onLine(new String(in.array(), start, i - start, StandardCharsets.US_ASCII));
+                start = i + 1;
+            }
+            in.position(start);
+            in.compact();
+        }
+
+        private void onLine(String line) throws IOException {
+            if (line.startsWith("MATCH")) {
+                shuffle();
+                send("PLACE AUTO");
+            } else if (line.equals("TURN")) {
+                int cell = order[next++];
+                sentAt = System.nanoTime();
+                send("SHOT " + (char) ('A' + Map.cellY(cell)) + (Map.cellX(cell) + 1));
+            } else if (line.startsWith("MISS") || line.startsWith("HIT") || line.startsWith("SUNK")) {
+                record(System.nanoTime() - sentAt);
+            } else if (line.startsWith("WIN")) {
+                record(System.nanoTime() - sentAt);
+                matchesCompleted++;
+                send("NEW " + nickname);
+            } else if (line.startsWith("INCOMING") && line.contains(" WIN") || line.equals("OPPONENT_LEFT")) {
+                send("NEW " + nickname);
+            }
+        }
+
+        private void shuffle() {
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+            next = 0;
+        }
+
+        private void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            key.cancel();
+            channel.close();
+            connected--;
+        }
+
+        private void send(String line) throws IOException {
+            if (out.remaining() <= line.length()) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(2 * out.capacity(), out.position() + line.length() + 1));
+                out.flip();
+                out = grown.put(out);
+            }
+            for (int i = 0; i < line.length(); i++) out.put((byte) line.charAt(i));
+            out.put((byte) '\n');
+            flush();
+        }
+
+        private void flush() throws IOException {
+            out.flip();
+            channel.write(out);
+            out.compact();
+            boolean pending = out.position() > 0;
+            boolean registered = (key.interestOps() & SelectionKey.OP_WRITE) != 0;
+            if (pending != registered) {
+                key.interestOps(pending ? key.interestOps() | SelectionKey.OP_WRITE : key.interestOps() & ~SelectionKey.OP_WRITE);
+            }
+        }
+    }
+}
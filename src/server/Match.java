@@ -0,0 +1,51 @@
+package server;
+
+import engine.GameEngine;
+
+class Match {
+    private final long id;
+    private final GameEngine engine = new GameEngine();
+    private final Connection[] connections = new Connection[2];
+    private boolean started;
+    private boolean over;
+
+    Match(long id, Connection player1, Connection player2) {
+        this.id = id;
+        connections[0] = player1;
+        connections[1] = player2;
+        engine.getPlayer(1).setNickname(player1.getNickname());
+        engine.getPlayer(2).setNickname(player2.getNickname());
+    }
+
+    long getId() {
+        return id;
+    }
+
+    GameEngine getEngine() {
+        return engine;
+    }
+
+    Connection getConnection(int playerNumber) {
+        return connections[playerNumber - 1];
+    }
+
+    Connection getOpponent(Connection connection) {
+        return connections[0] == connection ? connections[1] : connections[0];
+    }
+
+    boolean isStarted() {
+        return started;
+    }
+
+    void setStarted(boolean started) {
+        this.started = started;
+    }
+
+    boolean isOver() {
+        return over;
+    }
+
+    void setOver(boolean over) {
+        this.over = over;
+    }
+}
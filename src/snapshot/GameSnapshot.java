@@ -0,0 +1,126 @@
+package snapshot;
+
+import engine.GameEngine;
+import enums.Direction;
+import enums.ShipType;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class GameSnapshot {
+    public static final byte VERSION = 1;
+    public static final int MAX_NAME_LENGTH = 254;
+    public static final int MAX_SIZE = 2 + 2 * (1 + MAX_NAME_LENGTH + 26 + 10);
+
+    private static final int NO_NAME = 0xFF;
+    private static final int NO_SHIP = 0xFF;
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private GameSnapshot() {
+    }
+
+    public static int size(GameEngine engine) {
+        int size = 2;
+        for (int playerNumber = 1; playerNumber <= 2; playerNumber++) {
+            String nickname = engine.getPlayer(playerNumber).getNickname();
+            size += 1 + 26 + 10;
+            if (nickname != null) size += Math.min(nickname.getBytes(StandardCharsets.UTF_8).length, MAX_NAME_LENGTH);
+        }
+        return size;
+    }
+
+    public static int write(GameEngine engine, ByteBuffer out) {
+        int start = out.position();
+        int winner = engine.isOver() ? engine.getPlayerNumber(engine.getWinner()) : 0;
+        out.put(VERSION);
+        out.put((byte) (engine.getTurn() | winner << 2));
+        writePlayer(engine.getPlayer(1), out);
+        writePlayer(engine.getPlayer(2), out);
+        return out.position() - start;
+    }
+
+    public static GameEngine read(ByteBuffer in) {
+        return read(in, new GameEngine());
+    }
+
+    public static GameEngine read(ByteBuffer in, GameEngine engine) {
+        byte version = in.get();
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported snapshot version " + version);
+        int state = in.get();
+        readPlayer(in, engine.getPlayer(1));
+        readPlayer(in, engine.getPlayer(2));
+        int winner = state >> 2 & 3;
+        engine.setTurn(state & 3);
+        engine.setWinner(winner == 0 ? null : engine.getPlayer(winner));
+        return engine;
+    }
+
+    private static void writePlayer(Player player, ByteBuffer out) {
+        String nickname = player.getNickname();
+        if (nickname == null) {
+            out.put((byte) NO_NAME);
+        } else {
+            byte[] name = nickname.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(name.length, MAX_NAME_LENGTH);
+            out.put((byte) length);
+            out.put(name, 0, length);
+        }
+        Map map = player.getMap();
+        writeCells(map.getHitsLow(), map.getHitsHigh(), out);
+        writeCells(map.getMissesLow(), map.getMissesHigh(), out);
+        for (ShipType type : SHIP_TYPES) {
+            if (type == ShipType.NONE) continue;
+            Ship ship = player.getShip(type);
+            if (ship == null) {
+                out.put((byte) NO_SHIP);
+                out.put((byte) 0);
+                continue;
+            }
+            out.put((byte) Map.cell(ship.getxLocation() - 1, ship.getyLocation() - 1));
+            out.put((byte) (ship.getDirection().ordinal() << 4 | ship.getHits()));
+        }
+    }
+
+    private static void readPlayer(ByteBuffer in, Player player) {
+        int length = in.get() & 0xFF;
+        if (length == NO_NAME) {
+            player.setNickname(null);
+        } else if (in.hasArray()) {
+            player.setNickname(new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8));
+            in.position(in.position() + length);
+        } else {
+            byte[] name = new byte[length];
+            in.get(name);
+            player.setNickname(new String(name, StandardCharsets.UTF_8));
+        }
+        long hitsLow = in.getLong();
+        long hitsHigh = readHigh(in);
+        long missesLow = in.getLong();
+        long missesHigh = readHigh(in);
+        player.getMap().set(hitsLow, hitsHigh, missesLow, missesHigh);
+        player.clearShips();
+        for (ShipType type : SHIP_TYPES) {
+            if (type == ShipType.NONE) continue;
+            int cell = in.get() & 0xFF;
+            int state = in.get();
+            if (cell == NO_SHIP) continue;
+            Ship ship = new Ship(Map.cellX(cell) + 1, Map.cellY(cell) + 1, DIRECTIONS[state >> 4 & 0xF], type);
+            ship.setHits(state & 0xF);
+            player.setShip(ship);
+        }
+    }
+
+    private static void writeCells(long low, long high, ByteBuffer out) {
+        out.putLong(low);
+        out.putInt((int) high);
+        out.put((byte) (high >>> 32));
+    }
+
+    private static long readHigh(ByteBuffer in) {
+        long high = in.getInt() & 0xFFFFFFFFL;
+        return high | (long) (in.get() & 0xF) << 32;
+    }
+}
@@ -0,0 +1,73 @@
+package snapshot;
+
+import engine.GameEngine;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class SnapshotBatch {
+    public static final int MAGIC = 0x42534e50;
+    public static final int HEADER_SIZE = 9;
+
+    public interface SnapshotVisitor {
+        void visit(long id, GameEngine engine);
+    }
+
+    private SnapshotBatch() {
+    }
+
+    public static ByteBuffer writeAll(long[] ids, GameEngine[] games, int count, ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() < HEADER_SIZE + Long.BYTES + GameSnapshot.MAX_SIZE) {
+            buffer = ByteBuffer.allocateDirect(HEADER_SIZE + Math.max(count, 16) * 128);
+        }
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.put(GameSnapshot.VERSION);
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            if (buffer.remaining() < Long.BYTES + GameSnapshot.MAX_SIZE) buffer = grow(buffer);
+            buffer.putLong(ids[i]);
+            GameSnapshot.write(games[i], buffer);
+        }
+        return buffer.flip();
+    }
+
+    public static int readAll(ByteBuffer in, SnapshotVisitor visitor) {
+        if (in.getInt() != MAGIC) throw new IllegalArgumentException("Not a snapshot batch");
+        byte version = in.get();
+        if (version != GameSnapshot.VERSION) throw new IllegalArgumentException("Unsupported snapshot version " + version);
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            long id = in.getLong();
+            visitor.visit(id, GameSnapshot.read(in));
+        }
+        return count;
+    }
+
+    public static void save(Path path, ByteBuffer data) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer view = data.duplicate();
+            while (view.hasRemaining()) channel.write(view);
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static ByteBuffer load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer larger = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+        larger.put(buffer.flip());
+        return larger;
+    }
+}
@@ -0,0 +1,82 @@
+package store;
+
+import enums.MapStatus;
+import objects.Map;
+import objects.Mask;
+
+public class MapView {
+    private final PlayerView player;
+
+    MapView(PlayerView player) {
+        this.player = player;
+    }
+
+    public MapStatus getStatus(int cell) {
+        if (isHit(cell)) return MapStatus.HIT;
+        if (isMiss(cell)) return MapStatus.MISS;
+        return MapStatus.NOT_ATTACKED;
+    }
+
+    public MapStatus getMap(int x, int y) {
+        return getStatus(Map.cell(x - 1, y - 1));
+    }
+
+    public boolean isHit(int cell) {
+        if (cell < 64) return (getHitsLow() & (1L << cell)) != 0;
+        return (getHitsHigh() & (1L << (cell - 64))) != 0;
+    }
+
+    public boolean isMiss(int cell) {
+        if (cell < 64) return (getMissesLow() & (1L << cell)) != 0;
+        return (getMissesHigh() & (1L << (cell - 64))) != 0;
+    }
+
+    public boolean isAttacked(int cell) {
+        return isHit(cell) || isMiss(cell);
+    }
+
+    public int getHitCount() {
+        return Long.bitCount(getHitsLow()) + Long.bitCount(getHitsHigh());
+    }
+
+    public int getMissCount() {
+        return Long.bitCount(getMissesLow()) + Long.bitCount(getMissesHigh());
+    }
+
+    public int getAttackedCount() {
+        return getHitCount() + getMissCount();
+    }
+
+    public Mask getHits(Mask out) {
+        return out.set(getHitsLow(), getHitsHigh());
+    }
+
+    public Mask getMisses(Mask out) {
+        return out.set(getMissesLow(), getMissesHigh());
+    }
+
+    public Mask getAttacked(Mask out) {
+        return out.set(getHitsLow() | getMissesLow(), getHitsHigh() | getMissesHigh());
+    }
+
+    public long getHitsLow() {
+        return player.store().getHitsLow(player.slot(), player.getNumber());
+    }
+
+    public long getHitsHigh() {
+        return player.store().getHitsHigh(player.slot(), player.getNumber());
+    }
+
+    public long getMissesLow() {
+        return player.store().getMissesLow(player.slot(), player.getNumber());
+    }
+
+    public long getMissesHigh() {
+        return player.store().getMissesHigh(player.slot(), player.getNumber());
+    }
+
+    public Map copyTo(Map out) {
+        out.set(getHitsLow(), getHitsHigh(), getMissesLow(), getMissesHigh());
+        return out;
+    }
+}
@@ -0,0 +1,378 @@
+package store;
+
+import engine.FleetGenerator;
+import engine.GameEngine;
+import engine.PlacementTable;
+import engine.Validation;
+import enums.Direction;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import objects.Player;
+import objects.Ship;
+import java.util.Arrays;
+
+public class MatchStore {
+    public static final int STRIDE = 13;
+    public static final int PAGE_BITS = 16;
+    public static final int PAGE_SLOTS = 1 << PAGE_BITS;
+    public static final int NO_SLOT = -1;
+
+    static final int STATE = 0;
+    static final int ID = 1;
+    static final int NAMES = 2;
+    static final int PLAYERS = 3;
+    static final int PLAYER_STRIDE = 5;
+    static final int HITS_LOW = 0;
+    static final int HITS_HIGH = 1;
+    static final int MISSES_LOW = 2;
+    static final int MISSES_HIGH = 3;
+    static final int FLEET = 4;
+
+    private static final int PAGE_MASK = PAGE_SLOTS - 1;
+    private static final int WINNER_SHIFT = 2;
+    private static final int LAST_SHIFT = 4;
+    private static final long STARTED = 1L << 7;
+    private static final long LIVE = 1L << 8;
+    private static final int SHIP_BITS = 10;
+    private static final long SHIP_MASK = (1L << SHIP_BITS) - 1;
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final int FLEET_SIZE = SHIP_TYPES.length - 1;
+
+    private final NameTable names = new NameTable();
+    private long[][] pages = new long[0][];
+    private int used;
+    private int size;
+    private int freeHead = NO_SLOT;
+
+    public int allocate(long id) {
+        int slot;
+        if (freeHead != NO_SLOT) {
+            slot = freeHead;
+            freeHead = (int) (get(slot, STATE) >>> 32) - 1;
+        } else {
+            slot = used++;
+            int page = slot >>> PAGE_BITS;
+            if (page == pages.length) {
+                pages = Arrays.copyOf(pages, page + 1);
+                pages[page] = new long[PAGE_SLOTS * STRIDE];
+            }
+        }
+        long[] words = pages[slot >>> PAGE_BITS];
+        int base = (slot & PAGE_MASK) * STRIDE;
+        Arrays.fill(words, base, base + STRIDE, 0);
+        words[base + STATE] = LIVE | 1;
+        words[base + ID] = id;
+        size++;
+        return slot;
+    }
+
+    public void release(int slot) {
+        if (!isLive(slot)) throw new IllegalArgumentException("Slot " + slot + " is not in use");
+        long namesWord = get(slot, NAMES);
+        names.release((int) namesWord);
+        names.release((int) (namesWord >>> 32));
+        long[] words = pages[slot >>> PAGE_BITS];
+        int base = (slot & PAGE_MASK) * STRIDE;
+        Arrays.fill(words, base, base + STRIDE, 0);
+        words[base + STATE] = (long) (freeHead + 1) << 32;
+        freeHead = slot;
+        size--;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return pages.length * PAGE_SLOTS;
+    }
+
+    public long getArenaBytes() {
+        return (long) pages.length * PAGE_SLOTS * STRIDE * Long.BYTES;
+    }
+
+    public boolean isLive(int slot) {
+        return slot >= 0 && slot < used && (get(slot, STATE) & LIVE) != 0;
+    }
+
+    public long getId(int slot) {
+        return get(slot, ID);
+    }
+
+    public int getTurn(int slot) {
+        return (int) (get(slot, STATE) & 3);
+    }
+
+    public void setTurn(int slot, int turn) {
+        set(slot, STATE, get(slot, STATE) & ~3L | turn);
+    }
+
+    public void changeTurn(int slot) {
+        setTurn(slot, 3 - getTurn(slot));
+    }
+
+    public int getWinner(int slot) {
+        return (int) (get(slot, STATE) >>> WINNER_SHIFT & 3);
+    }
+
+    public boolean isOver(int slot) {
+        return getWinner(slot) != 0;
+    }
+
+    public boolean isStarted(int slot) {
+        return (get(slot, STATE) & STARTED) != 0;
+    }
+
+    public void setStarted(int slot, boolean started) {
+        long state = get(slot, STATE);
+        set(slot, STATE, started ? state | STARTED : state & ~STARTED);
+    }
+
+    public ShipType getLastShipType(int slot) {
+        int last = (int) (get(slot, STATE) >>> LAST_SHIFT & 7);
+        return last == 0 ? ShipType.NONE : SHIP_TYPES[last - 1];
+    }
+
+    public String getNickname(int slot, int player) {
+        return names.get(nameId(slot, player));
+    }
+
+    public void setNickname(int slot, int player, String nickname) {
+        long namesWord = get(slot, NAMES);
+        int shift = (player - 1) * 32;
+        names.release((int) (namesWord >>> shift));
+        long id = names.acquire(nickname) & 0xFFFFFFFFL;
+        set(slot, NAMES, namesWord & ~(0xFFFFFFFFL << shift) | id << shift);
+    }
+
+    public long getHitsLow(int slot, int player) {
+        return get(slot, offset(player, HITS_LOW));
+    }
+
+    public long getHitsHigh(int slot, int player) {
+        return get(slot, offset(player, HITS_HIGH));
+    }
+
+    public long getMissesLow(int slot, int player) {
+        return get(slot, offset(player, MISSES_LOW));
+    }
+
+    public long getMissesHigh(int slot, int player) {
+        return get(slot, offset(player, MISSES_HIGH));
+    }
+
+    public int getPlacement(int slot, int player, ShipType type) {
+        if (type == ShipType.NONE) return -1;
+        return (int) (get(slot, offset(player, FLEET)) >>> type.ordinal() * SHIP_BITS & SHIP_MASK) - 1;
+    }
+
+    public long getShipLow(int slot, int player, ShipType type) {
+        int placement = getPlacement(slot, player, type);
+        return placement < 0 ? 0 : PlacementTable.low(type, placement);
+    }
+
+    public long getShipHigh(int slot, int player, ShipType type) {
+        int placement = getPlacement(slot, player, type);
+        return placement < 0 ? 0 : PlacementTable.high(type, placement);
+    }
+
+    public long getOccupiedLow(int slot, int player) {
+        long fleet = get(slot, offset(player, FLEET));
+        long low = 0;
+        for (int t = 0; t < FLEET_SIZE; t++) {
+            int placement = (int) (fleet >>> t * SHIP_BITS & SHIP_MASK) - 1;
+            if (placement >= 0) low |= PlacementTable.low(SHIP_TYPES[t], placement);
+        }
+        return low;
+    }
+
+    public long getOccupiedHigh(int slot, int player) {
+        long fleet = get(slot, offset(player, FLEET));
+        long high = 0;
+        for (int t = 0; t < FLEET_SIZE; t++) {
+            int placement = (int) (fleet >>> t * SHIP_BITS & SHIP_MASK) - 1;
+            if (placement >= 0) high |= PlacementTable.high(SHIP_TYPES[t], placement);
+        }
+        return high;
+    }
+
+    public ShipType getShipTypeAt(int slot, int player, int cell) {
+        long fleet = get(slot, offset(player, FLEET));
+        for (int t = 0; t < FLEET_SIZE; t++) {
+            int placement = (int) (fleet >>> t * SHIP_BITS & SHIP_MASK) - 1;
+            if (placement < 0) continue;
+            long bits = cell < 64 ? PlacementTable.low(SHIP_TYPES[t], placement) >>> cell
+                    : PlacementTable.high(SHIP_TYPES[t], placement) >>> (cell - 64);
+            if ((bits & 1) != 0) return SHIP_TYPES[t];
+        }
+        return ShipType.NONE;
+    }
+
+    public int getShipHits(int slot, int player, ShipType type) {
+        int other = 3 - player;
+        return Long.bitCount(getShipLow(slot, player, type) & getHitsLow(slot, other))
+                + Long.bitCount(getShipHigh(slot, player, type) & getHitsHigh(slot, other));
+    }
+
+    public boolean isSunk(int slot, int player, ShipType type) {
+        int placement = getPlacement(slot, player, type);
+        if (placement < 0) return false;
+        int other = 3 - player;
+        return (PlacementTable.low(type, placement) & ~getHitsLow(slot, other)) == 0
+                && (PlacementTable.high(type, placement) & ~getHitsHigh(slot, other)) == 0;
+    }
+
+    public boolean isFleetSunk(int slot, int player) {
+        int other = 3 - player;
+        return (getOccupiedLow(slot, player) & ~getHitsLow(slot, other)) == 0
+                && (getOccupiedHigh(slot, player) & ~getHitsHigh(slot, other)) == 0;
+    }
+
+    public boolean isFleetPlaced(int slot, int player) {
+        long fleet = get(slot, offset(player, FLEET));
+        for (int t = 0; t < FLEET_SIZE; t++) {
+            if ((fleet >>> t * SHIP_BITS & SHIP_MASK) == 0) return false;
+        }
+        return true;
+    }
+
+    public int checkPlacement(int slot, int player, ShipType type, Direction direction, int x, int y) {
+        if (type == ShipType.NONE) return Validation.PLACEMENT_NO_TYPE;
+        int placement = PlacementTable.index(type, direction, x, y);
+        if (placement < 0) return Validation.PLACEMENT_OFF_BOARD;
+        long low = getOccupiedLow(slot, player) & ~getShipLow(slot, player, type);
+        long high = getOccupiedHigh(slot, player) & ~getShipHigh(slot, player, type);
+        if ((PlacementTable.low(type, placement) & low) != 0 || (PlacementTable.high(type, placement) & high) != 0) {
+            return Validation.PLACEMENT_OVERLAP;
+        }
+        return Validation.OK;
+    }
+
+    public boolean placeShip(int slot, int player, ShipType type, Direction direction, int x, int y) {
+        if (checkPlacement(slot, player, type, direction, x, y) != Validation.OK) return false;
+        setPlacement(slot, player, type, PlacementTable.index(type, direction, x, y));
+        return true;
+    }
+
+    public boolean placeFleet(int slot, int player, FleetGenerator generator) {
+        long occupiedLow = getOccupiedLow(slot, player);
+        long occupiedHigh = getOccupiedHigh(slot, player);
+        for (int t = 0; t < FLEET_SIZE; t++) {
+            ShipType type = SHIP_TYPES[t];
+            if (getPlacement(slot, player, type) >= 0) continue;
+            int placement = generator.choose(type, occupiedLow, occupiedHigh);
+            if (placement < 0) return false;
+            occupiedLow |= PlacementTable.low(type, placement);
+            occupiedHigh |= PlacementTable.high(type, placement);
+            setPlacement(slot, player, type, placement);
+        }
+        return true;
+    }
+
+    public ShotResult shoot(int slot, int x, int y) {
+        if (isOver(slot)) return ShotResult.INVALID;
+        if (x < 1 || x > Map.SIZE || y < 1 || y > Map.SIZE) return ShotResult.INVALID;
+        int turn = getTurn(slot);
+        int cell = Map.cell(x - 1, y - 1);
+        long low = cell < 64 ? 1L << cell : 0;
+        long high = cell < 64 ? 0 : 1L << (cell - 64);
+        int hitsLow = offset(turn, HITS_LOW);
+        int hitsHigh = offset(turn, HITS_HIGH);
+        int missesLow = offset(turn, MISSES_LOW);
+        int missesHigh = offset(turn, MISSES_HIGH);
+        if (((get(slot, hitsLow) | get(slot, missesLow)) & low) != 0
+                || ((get(slot, hitsHigh) | get(slot, missesHigh)) & high) != 0) {
+            return ShotResult.ALREADY_ATTACKED;
+        }
+        ShipType type = getShipTypeAt(slot, 3 - turn, cell);
+        ShotResult result;
+        if (type == ShipType.NONE) {
+            set(slot, missesLow, get(slot, missesLow) | low);
+            set(slot, missesHigh, get(slot, missesHigh) | high);
+            result = ShotResult.MISS;
+        } else {
+            set(slot, hitsLow, get(slot, hitsLow) | low);
+            set(slot, hitsHigh, get(slot, hitsHigh) | high);
+            if (!isSunk(slot, 3 - turn, type)) {
+                result = ShotResult.HIT;
+            } else if (!isFleetSunk(slot, 3 - turn)) {
+                result = ShotResult.SUNK;
+            } else {
+                result = ShotResult.WIN;
+            }
+        }
+        long state = get(slot, STATE) & ~(7L << LAST_SHIFT);
+        if (type != ShipType.NONE) state |= (long) (type.ordinal() + 1) << LAST_SHIFT;
+        if (result == ShotResult.WIN) state |= (long) turn << WINNER_SHIFT;
+        set(slot, STATE, state);
+        return result;
+    }
+
+    public void copyFrom(int slot, GameEngine engine) {
+        long state = get(slot, STATE) & (LIVE | STARTED);
+        state |= engine.getTurn();
+        if (engine.isOver()) state |= (long) engine.getPlayerNumber(engine.getWinner()) << WINNER_SHIFT;
+        ShipType last = engine.getLastShipType();
+        if (last != ShipType.NONE) state |= (long) (last.ordinal() + 1) << LAST_SHIFT;
+        set(slot, STATE, state);
+        for (int player = 1; player <= 2; player++) {
+            Player source = engine.getPlayer(player);
+            Map map = source.getMap();
+            set(slot, offset(player, HITS_LOW), map.getHitsLow());
+            set(slot, offset(player, HITS_HIGH), map.getHitsHigh());
+            set(slot, offset(player, MISSES_LOW), map.getMissesLow());
+            set(slot, offset(player, MISSES_HIGH), map.getMissesHigh());
+            set(slot, offset(player, FLEET), 0);
+            for (int t = 0; t < FLEET_SIZE; t++) {
+                Ship ship = source.getShip(SHIP_TYPES[t]);
+                if (ship != null) setPlacement(slot, player, SHIP_TYPES[t], PlacementTable.index(ship));
+            }
+            setNickname(slot, player, source.getNickname());
+        }
+    }
+
+    public GameEngine copyTo(int slot, GameEngine engine) {
+        for (int player = 1; player <= 2; player++) {
+            Player target = engine.getPlayer(player);
+            target.setNickname(getNickname(slot, player));
+            target.getMap().set(getHitsLow(slot, player), getHitsHigh(slot, player),
+                    getMissesLow(slot, player), getMissesHigh(slot, player));
+            target.clearShips();
+            for (int t = 0; t < FLEET_SIZE; t++) {
+                ShipType type = SHIP_TYPES[t];
+                int placement = getPlacement(slot, player, type);
+                if (placement < 0) continue;
+                Ship ship = PlacementTable.newShip(type, placement);
+                ship.setHits(getShipHits(slot, player, type));
+                target.setShip(ship);
+            }
+        }
+        int winner = getWinner(slot);
+        engine.setTurn(getTurn(slot));
+        engine.setWinner(winner == 0 ? null : engine.getPlayer(winner));
+        return engine;
+    }
+
+    long get(int slot, int offset) {
+        return pages[slot >>> PAGE_BITS][(slot & PAGE_MASK) * STRIDE + offset];
+    }
+
+    void set(int slot, int offset, long value) {
+        pages[slot >>> PAGE_BITS][(slot & PAGE_MASK) * STRIDE + offset] = value;
+    }
+
+    static int offset(int player, int field) {
+        return PLAYERS + (player - 1) * PLAYER_STRIDE + field;
+    }
+
+    private int nameId(int slot, int player) {
+        return (int) (get(slot, NAMES) >>> (player - 1) * 32);
+    }
+
+    private void setPlacement(int slot, int player, ShipType type, int placement) {
+        int offset = offset(player, FLEET);
+        int shift = type.ordinal() * SHIP_BITS;
+        set(slot, offset, get(slot, offset) & ~(SHIP_MASK << shift) | (long) (placement + 1) << shift);
+    }
+}
@@ -0,0 +1,107 @@
+package store;
+
+import engine.FleetGenerator;
+import enums.Direction;
+import enums.ShipType;
+import enums.ShotResult;
+
+public class MatchView {
+    private final MatchStore store;
+    private final PlayerView player1;
+    private final PlayerView player2;
+    private int slot = MatchStore.NO_SLOT;
+
+    public MatchView(MatchStore store) {
+        this.store = store;
+        player1 = new PlayerView(this, 1);
+        player2 = new PlayerView(this, 2);
+    }
+
+    public MatchView moveTo(int slot) {
+        this.slot = slot;
+        return this;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public MatchStore getStore() {
+        return store;
+    }
+
+    public long getId() {
+        return store.getId(slot);
+    }
+
+    public int getTurn() {
+        return store.getTurn(slot);
+    }
+
+    public void setTurn(int turn) {
+        store.setTurn(slot, turn);
+    }
+
+    public void changeTurn() {
+        store.changeTurn(slot);
+    }
+
+    public boolean isStarted() {
+        return store.isStarted(slot);
+    }
+
+    public void setStarted(boolean started) {
+        store.setStarted(slot, started);
+    }
+
+    public boolean isOver() {
+        return store.isOver(slot);
+    }
+
+    public PlayerView getWinner() {
+        int winner = store.getWinner(slot);
+        return winner == 0 ? null : getPlayer(winner);
+    }
+
+    public ShipType getLastShipType() {
+        return store.getLastShipType(slot);
+    }
+
+    public PlayerView getPlayer(int playerNumber) {
+        if (playerNumber == 1) return player1;
+        else return player2;
+    }
+
+    public PlayerView getCurrentPlayer() {
+        return getPlayer(getTurn());
+    }
+
+    public PlayerView getOtherPlayer() {
+        return getOtherPlayer(getCurrentPlayer());
+    }
+
+    public PlayerView getOtherPlayer(PlayerView player) {
+        if (player == player1) return player2;
+        else return player1;
+    }
+
+    public boolean placeShip(PlayerView player, ShipType type, Direction direction, int x, int y) {
+        return store.placeShip(slot, player.getNumber(), type, direction, x, y);
+    }
+
+    public boolean placeFleet(PlayerView player, FleetGenerator generator) {
+        return store.placeFleet(slot, player.getNumber(), generator);
+    }
+
+    public boolean getFleetPlaced(PlayerView player) {
+        return store.isFleetPlaced(slot, player.getNumber());
+    }
+
+    public boolean getFleetSunk(PlayerView player) {
+        return store.isFleetSunk(slot, player.getNumber());
+    }
+
+    public ShotResult shoot(int x, int y) {
+        return store.shoot(slot, x, y);
+    }
+}
@@ -0,0 +1,50 @@
+package store;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class NameTable {
+    public static final int NO_NAME = 0;
+
+    private final HashMap<String, Integer> ids = new HashMap<>();
+    private String[] names = new String[16];
+    private int[] references = new int[16];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int next = 1;
+
+    public int acquire(String name) {
+        if (name == null) return NO_NAME;
+        Integer existing = ids.get(name);
+        int id;
+        if (existing != null) {
+            id = existing;
+        } else {
+            id = freeCount > 0 ? free[--freeCount] : next++;
+            if (id == names.length) {
+                names = Arrays.copyOf(names, id * 2);
+                references = Arrays.copyOf(references, id * 2);
+            }
+            names[id] = name;
+            ids.put(name, id);
+        }
+        references[id]++;
+        return id;
+    }
+
+    public void release(int id) {
+        if (id == NO_NAME || --references[id] > 0) return;
+        ids.remove(names[id]);
+        names[id] = null;
+        if (freeCount == free.length) free = Arrays.copyOf(free, freeCount * 2);
+        free[freeCount++] = id;
+    }
+
+    public String get(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
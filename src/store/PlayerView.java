@@ -0,0 +1,88 @@
+package store;
+
+import enums.ShipType;
+
+public class PlayerView {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final MatchView match;
+    private final int number;
+    private final MapView map;
+    private final ShipView[] ships = new ShipView[SHIP_TYPES.length - 1];
+
+    PlayerView(MatchView match, int number) {
+        this.match = match;
+        this.number = number;
+        map = new MapView(this);
+        for (int t = 0; t < ships.length; t++) ships[t] = new ShipView(this, SHIP_TYPES[t]);
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public MatchView getMatch() {
+        return match;
+    }
+
+    public MapView getMap() {
+        return map;
+    }
+
+    public String getNickname() {
+        return store().getNickname(slot(), number);
+    }
+
+    public void setNickname(String nickname) {
+        store().setNickname(slot(), number, nickname);
+    }
+
+    public ShipView getShip(ShipType type) {
+        if (type == ShipType.NONE || store().getPlacement(slot(), number, type) < 0) return null;
+        return ships[type.ordinal()];
+    }
+
+    public ShipType getShipTypeAt(int cell) {
+        return store().getShipTypeAt(slot(), number, cell);
+    }
+
+    public ShipView getShipAt(int cell) {
+        return getShip(getShipTypeAt(cell));
+    }
+
+    public long getOccupiedLow() {
+        return store().getOccupiedLow(slot(), number);
+    }
+
+    public long getOccupiedHigh() {
+        return store().getOccupiedHigh(slot(), number);
+    }
+
+    public long getShipLow(ShipType type) {
+        return store().getShipLow(slot(), number, type);
+    }
+
+    public long getShipHigh(ShipType type) {
+        return store().getShipHigh(slot(), number, type);
+    }
+
+    public boolean isFree(ShipType type, long low, long high) {
+        return (low & getOccupiedLow() & ~getShipLow(type)) == 0 && (high & getOccupiedHigh() & ~getShipHigh(type)) == 0;
+    }
+
+    public boolean isSunk(ShipType type) {
+        return store().isSunk(slot(), number, type);
+    }
+
+    public boolean isFleetSunk() {
+        return store().isFleetSunk(slot(), number);
+    }
+
+    MatchStore store() {
+        return match.getStore();
+    }
+
+    int slot() {
+        return match.getSlot();
+    }
+}
@@ -0,0 +1,66 @@
+package store;
+
+import engine.PlacementTable;
+import enums.Direction;
+import enums.ShipStatus;
+import enums.ShipType;
+import objects.Map;
+import objects.Mask;
+
+public class ShipView {
+    private final PlayerView player;
+    private final ShipType type;
+
+    ShipView(PlayerView player, ShipType type) {
+        this.player = player;
+        this.type = type;
+    }
+
+    public ShipType getType() {
+        return type;
+    }
+
+    public int getLength() {
+        return type.getLength();
+    }
+
+    public int getxLocation() {
+        return Map.cellX(PlacementTable.origin(type, placement())) + 1;
+    }
+
+    public int getyLocation() {
+        return Map.cellY(PlacementTable.origin(type, placement())) + 1;
+    }
+
+    public Direction getDirection() {
+        return PlacementTable.direction(type, placement());
+    }
+
+    public int getHits() {
+        return player.store().getShipHits(player.slot(), player.getNumber(), type);
+    }
+
+    public ShipStatus getStatus() {
+        int hits = getHits();
+        if (hits == 0) return ShipStatus.OPERATIONAL;
+        if (hits >= getLength()) return ShipStatus.SUNK;
+        return ShipStatus.DAMAGED;
+    }
+
+    public boolean occupies(int x, int y) {
+        if (x < 1 || x > Map.SIZE || y < 1 || y > Map.SIZE) return false;
+        int cell = Map.cell(x - 1, y - 1);
+        int placement = placement();
+        long bits = cell < 64 ? PlacementTable.low(type, placement) >>> cell
+                : PlacementTable.high(type, placement) >>> (cell - 64);
+        return (bits & 1) != 0;
+    }
+
+    public Mask getMask(Mask out) {
+        return PlacementTable.mask(type, placement(), out);
+    }
+
+    private int placement() {
+        return player.store().getPlacement(player.slot(), player.getNumber(), type);
+    }
+}
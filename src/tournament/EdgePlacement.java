@@ -0,0 +1,46 @@
+package tournament;
+
+import engine.GameEngine;
+import engine.PlacementTable;
+import enums.ShipType;
+import objects.Map;
+import objects.Mask;
+import objects.Player;
+import java.util.random.RandomGenerator;
+
+public class EdgePlacement implements PlacementStrategy {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final Mask EDGE = new Mask();
+
+    static {
+        for (int cell = 0; cell < Map.CELLS; cell++) {
+            int x = Map.cellX(cell);
+            int y = Map.cellY(cell);
+            if (x == 0 || y == 0 || x == Map.SIZE - 1 || y == Map.SIZE - 1) EDGE.set(cell);
+        }
+    }
+
+    private final int interiorOdds;
+
+    public EdgePlacement() {
+        this(4);
+    }
+
+    public EdgePlacement(int interiorOdds) {
+        this.interiorOdds = interiorOdds;
+    }
+
+    @Override
+    public void place(GameEngine engine, Player player, RandomGenerator random) {
+        for (ShipType type : SHIP_TYPES) {
+            if (type == ShipType.NONE || player.getShip(type) != null) continue;
+            while (true) {
+                int placement = random.nextInt(PlacementTable.count(type));
+                boolean edge = (PlacementTable.low(type, placement) & EDGE.getLow()) != 0
+                        || (PlacementTable.high(type, placement) & EDGE.getHigh()) != 0;
+                if (!edge && random.nextInt(interiorOdds) != 0) continue;
+                if (engine.placeShip(player, PlacementTable.newShip(type, placement))) break;
+            }
+        }
+    }
+}
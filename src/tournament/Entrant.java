@@ -0,0 +1,7 @@
+package tournament;
+
+import ai.TargetingStrategy;
+import java.util.function.LongFunction;
+
+public record Entrant(String name, LongFunction<TargetingStrategy> targeting, PlacementStrategy placement) {
+}
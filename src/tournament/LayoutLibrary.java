@@ -0,0 +1,200 @@
+package tournament;
+
+import ai.BoardSymmetry;
+import engine.PlacementTable;
+import enums.Direction;
+import enums.ShipType;
+import objects.Map;
+import objects.Ship;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+public class LayoutLibrary {
+    public static final int SHIPS = ShipType.values().length - 1;
+
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final int capacity;
+    private final HashMap<Long, Entry> entries = new HashMap<>();
+    private double threshold = Double.NEGATIVE_INFINITY;
+
+    public record Entry(int[] ships, double score) {
+    }
+
+    public LayoutLibrary(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public static LayoutLibrary load(Path path) throws IOException {
+        List<Entry> loaded = new ArrayList<>();
+        int number = 0;
+        for (String line : Files.readAllLines(path)) {
+            number++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+            String[] fields = line.split("\\s+");
+            if (fields.length != SHIPS + 1) throw new IllegalArgumentException("Line " + number + ": expected a score and " + SHIPS + " ships");
+            int[] ships = new int[SHIPS];
+            for (int t = 0; t < SHIPS; t++) {
+                ships[t] = parseShip(fields[t + 1]);
+                if (ships[t] < 0 || placement(SHIP_TYPES[t], ships[t]) < 0) {
+                    throw new IllegalArgumentException("Line " + number + ": bad ship " + fields[t + 1]);
+                }
+            }
+            if (!isLegal(ships)) throw new IllegalArgumentException("Line " + number + ": ships overlap");
+            loaded.add(new Entry(ships, Double.parseDouble(fields[0])));
+        }
+        if (loaded.isEmpty()) throw new IllegalArgumentException(path + " holds no layouts");
+        LayoutLibrary library = new LayoutLibrary(loaded.size());
+        for (Entry entry : loaded) library.offer(entry.ships(), entry.score());
+        return library;
+    }
+
+    public void save(Path path, String header) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            if (header != null) writer.write("# " + header + "\n");
+            for (Entry entry : getRanked()) {
+                writer.write(String.format("%.3f", entry.score()));
+                for (int ship : entry.ships()) writer.write(" " + formatShip(ship));
+                writer.write("\n");
+            }
+        }
+    }
+
+    public synchronized boolean offer(int[] ships, double score) {
+        if (entries.size() >= capacity && score <= threshold) return false;
+        long key = key(ships);
+        Entry existing = entries.get(key);
+        if (existing != null && existing.score() >= score) return false;
+        entries.put(key, new Entry(ships.clone(), score));
+        if (entries.size() > capacity) {
+            long worst = 0;
+            double worstScore = Double.POSITIVE_INFINITY;
+            for (java.util.Map.Entry<Long, Entry> e : entries.entrySet()) {
+                if (e.getValue().score() < worstScore) {
+                    worst = e.getKey();
+                    worstScore = e.getValue().score();
+                }
+            }
+            entries.remove(worst);
+        }
+        if (entries.size() >= capacity) {
+            threshold = Double.POSITIVE_INFINITY;
+            for (Entry entry : entries.values()) threshold = Math.min(threshold, entry.score());
+        }
+        return true;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized List<Entry> getRanked() {
+        List<Entry> ranked = new ArrayList<>(entries.values());
+        ranked.sort(Comparator.comparingDouble(Entry::score).reversed());
+        return ranked;
+    }
+
+    public static int ship(int cell, boolean vertical) {
+        return cell << 1 | (vertical ? 1 : 0);
+    }
+
+    public static int cell(int ship) {
+        return ship >> 1;
+    }
+
+    public static boolean isVertical(int ship) {
+        return (ship & 1) != 0;
+    }
+
+    public static int placement(ShipType type, int ship) {
+        int cell = cell(ship);
+        Direction direction = isVertical(ship) ? Direction.SOUTH : Direction.EAST;
+        return PlacementTable.index(type, direction, Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+    }
+
+    public static int fromPlacement(ShipType type, int placement) {
+        long low = PlacementTable.low(type, placement);
+        long high = PlacementTable.high(type, placement);
+        return fromMask(low, high);
+    }
+
+    public static Ship newShip(ShipType type, int ship) {
+        int cell = cell(ship);
+        return new Ship(Map.cellX(cell) + 1, Map.cellY(cell) + 1, isVertical(ship) ? Direction.SOUTH : Direction.EAST, type);
+    }
+
+    public static boolean isLegal(int[] ships) {
+        long low = 0;
+        long high = 0;
+        for (int t = 0; t < SHIPS; t++) {
+            int placement = placement(SHIP_TYPES[t], ships[t]);
+            if (placement < 0) return false;
+            long shipLow = PlacementTable.low(SHIP_TYPES[t], placement);
+            long shipHigh = PlacementTable.high(SHIP_TYPES[t], placement);
+            if ((shipLow & low) != 0 || (shipHigh & high) != 0) return false;
+            low |= shipLow;
+            high |= shipHigh;
+        }
+        return true;
+    }
+
+    public static int[] transform(int transform, int[] ships, int[] out) {
+        long[] mask = new long[2];
+        for (int t = 0; t < SHIPS; t++) {
+            int placement = placement(SHIP_TYPES[t], ships[t]);
+            BoardSymmetry.apply(transform, PlacementTable.low(SHIP_TYPES[t], placement),
+                    PlacementTable.high(SHIP_TYPES[t], placement), mask, 0);
+            out[t] = fromMask(mask[0], mask[1]);
+        }
+        return out;
+    }
+
+    public static long key(int[] ships) {
+        int[] image = new int[SHIPS];
+        long best = Long.MAX_VALUE;
+        for (int transform = 0; transform < BoardSymmetry.COUNT; transform++) {
+            transform(transform, ships, image);
+            long key = 0;
+            for (int ship : image) key = key << 8 | ship;
+            best = Math.min(best, key);
+        }
+        return best;
+    }
+
+    public static String formatShip(int ship) {
+        int cell = cell(ship);
+        return (char) ('A' + Map.cellY(cell)) + String.valueOf(Map.cellX(cell) + 1) + (isVertical(ship) ? "s" : "e");
+    }
+
+    public static int parseShip(String text) {
+        if (text.length() < 3) return -1;
+        char direction = Character.toLowerCase(text.charAt(text.length() - 1));
+        if (direction != 's' && direction != 'e') return -1;
+        int row = Character.toUpperCase(text.charAt(0)) - 'A';
+        int column;
+        try {
+            column = Integer.parseInt(text.substring(1, text.length() - 1)) - 1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        if (row < 0 || row >= Map.SIZE || column < 0 || column >= Map.SIZE) return -1;
+        return ship(Map.cell(column, row), direction == 's');
+    }
+
+    private static int fromMask(long low, long high) {
+        int first = low != 0 ? Long.numberOfTrailingZeros(low) : 64 + Long.numberOfTrailingZeros(high);
+        int below = first + Map.SIZE;
+        boolean vertical = below < Map.CELLS
+                && (below < 64 ? (low >>> below & 1) != 0 : (high >>> (below - 64) & 1) != 0);
+        return ship(first, vertical);
+    }
+}
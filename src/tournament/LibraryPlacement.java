@@ -0,0 +1,33 @@
+package tournament;
+
+import engine.FleetGenerator;
+import engine.GameEngine;
+import enums.ShipType;
+import objects.Player;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+public class LibraryPlacement implements PlacementStrategy {
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    private final List<LayoutLibrary.Entry> entries;
+
+    public LibraryPlacement(LayoutLibrary library) {
+        entries = library.getRanked();
+        if (entries.isEmpty()) throw new IllegalArgumentException("Layout library is empty");
+    }
+
+    @Override
+    public void place(GameEngine engine, Player player, RandomGenerator random) {
+        int[] ships = entries.get(random.nextInt(entries.size())).ships();
+        int[] image = LayoutLibrary.transform(random.nextInt(8), ships, new int[LayoutLibrary.SHIPS]);
+        for (int t = 0; t < LayoutLibrary.SHIPS; t++) {
+            if (player.getShip(SHIP_TYPES[t]) != null) continue;
+            if (!engine.placeShip(player, LayoutLibrary.newShip(SHIP_TYPES[t], image[t]))) {
+                FleetGenerator generator = new FleetGenerator(random);
+                if (!engine.placeFleet(player, generator)) engine.placeNewFleet(player, generator);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package tournament;
+
+import ai.DensityTargeter;
+import ai.EndgameTargeter;
+import ai.RandomTargeter;
+import ai.TargetingStrategy;
+import engine.FleetGenerator;
+import engine.PlacementTable;
+import enums.Direction;
+import enums.MapStatus;
+import enums.ShipType;
+import enums.ShotResult;
+import objects.Map;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+public class PlacementOptimizer {
+    public static final double START_TEMPERATURE = 3.0;
+    public static final double END_TEMPERATURE = 0.05;
+
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+    private static final int SHIPS = LayoutLibrary.SHIPS;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final List<String> shooters;
+    private final int gamesPerShooter;
+    private final int cacheNodes;
+    private final LayoutLibrary library;
+    private final LongAdder games = new LongAdder();
+    private final LongAdder candidates = new LongAdder();
+
+    private final LongAdder cachedShots = new LongAdder();
+    private final LongAdder searchedShots = new LongAdder();
+
+    public PlacementOptimizer(List<String> shooters, int gamesPerShooter, int cacheNodes, LayoutLibrary library) {
+        for (String shooter : shooters) shooter(shooter);
+        this.shooters = shooters;
+        this.gamesPerShooter = gamesPerShooter;
+        this.cacheNodes = cacheNodes;
+        this.library = library;
+    }
+
+    public static void main(String[] args) throws IOException {
+        long seconds = 60;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int gamesPerShooter = 8;
+        int size = 100;
+        int cacheNodes = 1 << 20;
+        List<String> shooters = List.of("density");
+        Path out = Path.of("layouts.txt");
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seconds" -> seconds = Long.parseLong(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--games" -> gamesPerShooter = Integer.parseInt(args[++i]);
+                case "--size" -> size = Integer.parseInt(args[++i]);
+                case "--cache" -> cacheNodes = Integer.parseInt(args[++i]);
+                case "--shooters" -> shooters = List.of(args[++i].split(","));
+                case "--out" -> out = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        LayoutLibrary library = new LayoutLibrary(size);
+        PlacementOptimizer optimizer = new PlacementOptimizer(shooters, gamesPerShooter, cacheNodes, library);
+        long start = System.nanoTime();
+        optimizer.anneal(pool, TimeUnit.SECONDS.toNanos(seconds), seed);
+        double searched = (System.nanoTime() - start) / 1e9;
+        long searchGames = optimizer.getGames();
+        LayoutLibrary ranked = optimizer.rescore(pool, 4 * gamesPerShooter, seed);
+        pool.shutdown();
+        ranked.save(out, "mean shots to win for " + String.join(",", shooters) + " over "
+                + 4 * gamesPerShooter + " games each");
+        System.out.printf("%d candidates, %d games in %.1f s (%.0f games/s), %d layouts written to %s%n",
+                optimizer.getCandidates(), searchGames, searched, searchGames / searched, ranked.size(), out);
+        List<LayoutLibrary.Entry> entries = ranked.getRanked();
+        long cached = optimizer.getCachedShots();
+        long total = cached + optimizer.getSearchedShots();
+        if (total > 0) System.out.printf("%.1f%% of shots replayed from the shot tree%n", 100.0 * cached / total);
+        if (!entries.isEmpty()) System.out.printf("best %.2f shots, median %.2f shots%n", entries.get(0).score(),
+                entries.get(entries.size() / 2).score());
+    }
+
+    public long getGames() {
+        return games.sum();
+    }
+
+    public long getCandidates() {
+        return candidates.sum();
+    }
+
+    public long getCachedShots() {
+        return cachedShots.sum();
+    }
+
+    public long getSearchedShots() {
+        return searchedShots.sum();
+    }
+
+    public void anneal(ForkJoinPool pool, long budgetNanos, long seed) {
+        long deadline = System.nanoTime() + budgetNanos;
+        SplittableRandom random = new SplittableRandom(seed);
+        List<ForkJoinTask<?>> chains = new ArrayList<>();
+        for (int i = 0; i < pool.getParallelism(); i++) {
+            SplittableRandom chainRandom = random.split();
+            chains.add(pool.submit(() -> anneal(chainRandom, deadline, budgetNanos)));
+        }
+        for (ForkJoinTask<?> chain : chains) chain.join();
+    }
+
+    public LayoutLibrary rescore(ForkJoinPool pool, int gamesPerShooter, long seed) {
+        List<LayoutLibrary.Entry> entries = library.getRanked();
+        LayoutLibrary ranked = new LayoutLibrary(Math.max(entries.size(), 1));
+        AtomicInteger next = new AtomicInteger();
+        SplittableRandom random = new SplittableRandom(seed);
+        List<ForkJoinTask<?>> workers = new ArrayList<>();
+        for (int i = 0; i < pool.getParallelism(); i++) {
+            SplittableRandom workerRandom = random.split();
+            workers.add(pool.submit(() -> {
+                Evaluator evaluator = new Evaluator(workerRandom);
+                for (int entry; (entry = next.getAndIncrement()) < entries.size(); ) {
+                    int[] ships = entries.get(entry).ships();
+                    ranked.offer(ships, evaluator.score(ships, gamesPerShooter));
+                }
+            }));
+        }
+        for (ForkJoinTask<?> worker : workers) worker.join();
+        return ranked;
+    }
+
+    private void anneal(SplittableRandom random, long deadline, long budgetNanos) {
+        Evaluator evaluator = new Evaluator(random.split());
+        FleetGenerator generator = new FleetGenerator(random);
+        int[] current = randomLayout(generator);
+        double score = evaluator.score(current, gamesPerShooter);
+        library.offer(current, score);
+        int[] candidate = new int[SHIPS];
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            double progress = 1 - (double) (deadline - now) / budgetNanos;
+            double temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+            mutate(current, candidate, random, generator);
+            double candidateScore = evaluator.score(candidate, gamesPerShooter);
+            candidates.increment();
+            library.offer(candidate, candidateScore);
+            if (candidateScore >= score || random.nextDouble() < Math.exp((candidateScore - score) / temperature)) {
+                System.arraycopy(candidate, 0, current, 0, SHIPS);
+                score = candidateScore;
+            }
+        }
+    }
+
+    private static int[] randomLayout(FleetGenerator generator) {
+        int[] ships = new int[SHIPS];
+        long low = 0;
+        long high = 0;
+        for (int t = 0; t < SHIPS; t++) {
+            int placement = generator.choose(SHIP_TYPES[t], low, high);
+            low |= PlacementTable.low(SHIP_TYPES[t], placement);
+            high |= PlacementTable.high(SHIP_TYPES[t], placement);
+            ships[t] = LayoutLibrary.fromPlacement(SHIP_TYPES[t], placement);
+        }
+        return ships;
+    }
+
+    private static void mutate(int[] current, int[] candidate, SplittableRandom random, FleetGenerator generator) {
+        while (true) {
+            System.arraycopy(current, 0, candidate, 0, SHIPS);
+            int t = random.nextInt(SHIPS);
+            ShipType type = SHIP_TYPES[t];
+            long low = 0;
+            long high = 0;
+            for (int other = 0; other < SHIPS; other++) {
+                if (other == t) continue;
+                int placement = LayoutLibrary.placement(SHIP_TYPES[other], current[other]);
+                low |= PlacementTable.low(SHIP_TYPES[other], placement);
+                high |= PlacementTable.high(SHIP_TYPES[other], placement);
+            }
+            int placement;
+            if (random.nextInt(4) == 0) {
+                placement = generator.choose(type, low, high);
+            } else {
+                int cell = LayoutLibrary.cell(current[t]);
+                int x = Map.cellX(cell) + 1 + random.nextInt(3) - 1;
+                int y = Map.cellY(cell) + 1 + random.nextInt(3) - 1;
+                placement = PlacementTable.index(type, DIRECTIONS[random.nextInt(DIRECTIONS.length)], x, y);
+                if (placement >= 0 && ((PlacementTable.low(type, placement) & low)
+                        | (PlacementTable.high(type, placement) & high)) != 0) placement = -1;
+            }
+            if (placement < 0) continue;
+            candidate[t] = LayoutLibrary.fromPlacement(type, placement);
+            if (candidate[t] != current[t]) return;
+        }
+    }
+
+    private static LongFunction<TargetingStrategy> shooter(String name) {
+        return switch (name) {
+            case "random" -> seed -> new RandomTargeter(new SplittableRandom(seed));
+            case "density" -> seed -> new DensityTargeter();
+            case "endgame" -> seed -> new EndgameTargeter();
+            default -> throw new IllegalArgumentException("Unknown shooter " + name);
+        };
+    }
+
+    private static boolean deterministic(String name) {
+        return name.equals("density");
+    }
+
+    private final class Evaluator {
+        private final SplittableRandom random;
+        private final TargetingStrategy[] targeters;
+        private final ShotTree[] trees;
+        private final Map shots = new Map();
+        private final Map replay = new Map();
+        private final int[] history = new int[Map.CELLS];
+        private final int[] outcomes = new int[Map.CELLS];
+        private final int[] image = new int[SHIPS];
+        private final long[] shipLow = new long[SHIPS];
+        private final long[] shipHigh = new long[SHIPS];
+
+        private Evaluator(SplittableRandom random) {
+            this.random = random;
+            targeters = new TargetingStrategy[shooters.size()];
+            trees = new ShotTree[shooters.size()];
+            for (int i = 0; i < targeters.length; i++) {
+                targeters[i] = shooter(shooters.get(i)).apply(random.nextLong());
+                if (cacheNodes > 0 && deterministic(shooters.get(i))) trees[i] = new ShotTree(SHIPS, cacheNodes);
+            }
+        }
+
+        private double score(int[] ships, int gamesPerShooter) {
+            long total = 0;
+            int offset = random.nextInt(8);
+            for (int i = 0; i < targeters.length; i++) {
+                for (int game = 0; game < gamesPerShooter; game++) {
+                    LayoutLibrary.transform((offset + game) & 7, ships, image);
+                    total += trees[i] == null ? play(targeters[i]) : play(targeters[i], trees[i]);
+                }
+            }
+            games.add((long) targeters.length * gamesPerShooter);
+            return (double) total / (targeters.length * gamesPerShooter);
+        }
+
+        private int play(TargetingStrategy targeter) {
+            loadShips();
+            targeter.reset();
+            shots.clear();
+            int afloat = SHIPS;
+            for (int shot = 1; shot <= Map.CELLS; shot++) {
+                int cell = targeter.nextShot(shots);
+                if (cell < 0 || shots.isAttacked(cell)) return Map.CELLS;
+                long low = cell < 64 ? 1L << cell : 0;
+                long high = cell < 64 ? 0 : 1L << (cell - 64);
+                int hit = -1;
+                for (int t = 0; t < SHIPS; t++) {
+                    if ((shipLow[t] & low) != 0 || (shipHigh[t] & high) != 0) hit = t;
+                }
+                if (hit < 0) {
+                    shots.setStatus(cell, MapStatus.MISS);
+                    targeter.onShot(shots, cell, ShotResult.MISS, ShipType.NONE);
+                    continue;
+                }
+                shots.setStatus(cell, MapStatus.HIT);
+                boolean sunk = (shipLow[hit] & ~shots.getHitsLow()) == 0 && (shipHigh[hit] & ~shots.getHitsHigh()) == 0;
+                ShotResult result = !sunk ? ShotResult.HIT : --afloat > 0 ? ShotResult.SUNK : ShotResult.WIN;
+                targeter.onShot(shots, cell, result, SHIP_TYPES[hit]);
+                if (result == ShotResult.WIN) return shot;
+            }
+            return Map.CELLS;
+        }
+
+        private int play(TargetingStrategy targeter, ShotTree tree) {
+            loadShips();
+            shots.clear();
+            int synced = -1;
+            int node = 0;
+            int afloat = SHIPS;
+            int searched = 0;
+            for (int shot = 1; shot <= Map.CELLS; shot++) {
+                int cell = tree.getCell(node);
+                if (cell == ShotTree.NONE) {
+                    synced = sync(targeter, synced, shot - 1);
+                    cell = targeter.nextShot(shots);
+                    tree.setCell(node, cell);
+                    searched++;
+                }
+                if (cell < 0 || shots.isAttacked(cell)) return finish(tree, searched, shot, Map.CELLS);
+                int hit = shipAt(cell);
+                shots.setStatus(cell, hit < 0 ? MapStatus.MISS : MapStatus.HIT);
+                int outcome = ShotTree.MISS;
+                if (hit >= 0) {
+                    boolean sunk = (shipLow[hit] & ~shots.getHitsLow()) == 0
+                            && (shipHigh[hit] & ~shots.getHitsHigh()) == 0;
+                    if (sunk && --afloat == 0) return finish(tree, searched, shot, shot);
+                    outcome = sunk ? tree.sunk(hit) : tree.hit(hit);
+                }
+                history[shot - 1] = cell;
+                outcomes[shot - 1] = outcome;
+                int child = tree.getChild(node, outcome);
+                if (child == ShotTree.NONE) {
+                    synced = sync(targeter, synced, shot);
+                    int next = targeter.nextShot(shots);
+                    searched++;
+                    child = tree.addChild(node, outcome, next);
+                    if (child == ShotTree.NONE) {
+                        tree.clear();
+                        return finish(tree, searched, shot, playOn(targeter, next, shot, afloat));
+                    }
+                }
+                node = child;
+            }
+            return finish(tree, searched, Map.CELLS, Map.CELLS);
+        }
+
+        private int finish(ShotTree tree, int searched, int shots, int result) {
+            searchedShots.add(searched);
+            cachedShots.add(Math.max(shots - searched, 0));
+            return result;
+        }
+
+        private int playOn(TargetingStrategy targeter, int cell, int shot, int afloat) {
+            while (++shot <= Map.CELLS) {
+                if (cell < 0 || shots.isAttacked(cell)) return Map.CELLS;
+                int hit = shipAt(cell);
+                if (hit < 0) {
+                    shots.setStatus(cell, MapStatus.MISS);
+                    targeter.onShot(shots, cell, ShotResult.MISS, ShipType.NONE);
+                } else {
+                    shots.setStatus(cell, MapStatus.HIT);
+                    boolean sunk = (shipLow[hit] & ~shots.getHitsLow()) == 0
+                            && (shipHigh[hit] & ~shots.getHitsHigh()) == 0;
+                    ShotResult result = !sunk ? ShotResult.HIT : --afloat > 0 ? ShotResult.SUNK : ShotResult.WIN;
+                    targeter.onShot(shots, cell, result, SHIP_TYPES[hit]);
+                    if (result == ShotResult.WIN) return shot;
+                }
+                cell = targeter.nextShot(shots);
+            }
+            return Map.CELLS;
+        }
+
+        private int sync(TargetingStrategy targeter, int synced, int length) {
+            if (synced < 0) {
+                targeter.reset();
+                replay.clear();
+                synced = 0;
+            }
+            for (; synced < length; synced++) {
+                int cell = history[synced];
+                int outcome = outcomes[synced];
+                replay.setStatus(cell, outcome == ShotTree.MISS ? MapStatus.MISS : MapStatus.HIT);
+                int ship = outcome == ShotTree.MISS ? -1 : (outcome - 1) % SHIPS;
+                ShotResult result = outcome == ShotTree.MISS ? ShotResult.MISS
+                        : outcome > SHIPS ? ShotResult.SUNK : ShotResult.HIT;
+                targeter.onShot(replay, cell, result, ship < 0 ? ShipType.NONE : SHIP_TYPES[ship]);
+            }
+            return synced;
+        }
+
+        private int shipAt(int cell) {
+            long low = cell < 64 ? 1L << cell : 0;
+            long high = cell < 64 ? 0 : 1L << (cell - 64);
+            for (int t = 0; t < SHIPS; t++) {
+                if ((shipLow[t] & low) != 0 || (shipHigh[t] & high) != 0) return t;
+            }
+            return -1;
+        }
+
+        private void loadShips() {
+            for (int t = 0; t < SHIPS; t++) {
+                int placement = LayoutLibrary.placement(SHIP_TYPES[t], image[t]);
+                shipLow[t] = PlacementTable.low(SHIP_TYPES[t], placement);
+                shipHigh[t] = PlacementTable.high(SHIP_TYPES[t], placement);
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package tournament;
+
+import engine.GameEngine;
+import objects.Player;
+import java.util.random.RandomGenerator;
+
+public interface PlacementStrategy {
+    void place(GameEngine engine, Player player, RandomGenerator random);
+}
@@ -0,0 +1,14 @@
+package tournament;
+
+import engine.FleetGenerator;
+import engine.GameEngine;
+import objects.Player;
+import java.util.random.RandomGenerator;
+
+public class RandomPlacement implements PlacementStrategy {
+    @Override
+    public void place(GameEngine engine, Player player, RandomGenerator random) {
+        FleetGenerator generator = new FleetGenerator(random);
+        if (!engine.placeFleet(player, generator)) engine.placeNewFleet(player, generator);
+    }
+}
@@ -0,0 +1,60 @@
+package tournament;
+
+import java.util.Arrays;
+
+class ShotTree {
+    static final int MISS = 0;
+    static final int NONE = -1;
+
+    private final int ships;
+    private final int outcomes;
+    private final int capacity;
+    private final int[] cells;
+    private final int[] children;
+    private int size;
+
+    ShotTree(int ships, int capacity) {
+        this.ships = ships;
+        this.outcomes = 1 + 2 * ships;
+        this.capacity = capacity;
+        cells = new int[capacity];
+        children = new int[capacity * outcomes];
+        Arrays.fill(children, NONE);
+        size = 1;
+        cells[0] = NONE;
+    }
+
+    void clear() {
+        Arrays.fill(children, 0, size * outcomes, NONE);
+        size = 1;
+        cells[0] = NONE;
+    }
+
+    int hit(int ship) {
+        return 1 + ship;
+    }
+
+    int sunk(int ship) {
+        return 1 + ships + ship;
+    }
+
+    int getCell(int node) {
+        return cells[node];
+    }
+
+    void setCell(int node, int cell) {
+        cells[node] = cell;
+    }
+
+    int getChild(int node, int outcome) {
+        return children[node * outcomes + outcome];
+    }
+
+    int addChild(int node, int outcome, int cell) {
+        if (size == capacity) return NONE;
+        int child = size++;
+        cells[child] = cell;
+        children[node * outcomes + outcome] = child;
+        return child;
+    }
+}
@@ -0,0 +1,121 @@
+package tournament;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class Standings {
+    private static final int ELO_ITERATIONS = 1000;
+
+    private final List<Entrant> entrants;
+    private final long[] games;
+    private final long[] wins;
+    private final long[] winShots;
+    private final long[] winShotsSquared;
+    private final long[][] pairWins;
+    private long draws;
+
+    public Standings(List<Entrant> entrants) {
+        this.entrants = entrants;
+        int n = entrants.size();
+        games = new long[n];
+        wins = new long[n];
+        winShots = new long[n];
+        winShotsSquared = new long[n];
+        pairWins = new long[n][n];
+    }
+
+    public void record(int a, int b, int winner, int shots) {
+        games[a]++;
+        games[b]++;
+        if (winner < 0) {
+            draws++;
+            return;
+        }
+        int loser = winner == a ? b : a;
+        wins[winner]++;
+        winShots[winner] += shots;
+        winShotsSquared[winner] += (long) shots * shots;
+        pairWins[winner][loser]++;
+    }
+
+    public synchronized void merge(Standings other) {
+        for (int i = 0; i < games.length; i++) {
+            games[i] += other.games[i];
+            wins[i] += other.wins[i];
+            winShots[i] += other.winShots[i];
+            winShotsSquared[i] += other.winShotsSquared[i];
+            for (int j = 0; j < games.length; j++) pairWins[i][j] += other.pairWins[i][j];
+        }
+        draws += other.draws;
+    }
+
+    public synchronized long getGames(int entrant) {
+        return games[entrant];
+    }
+
+    public synchronized long getWins(int entrant) {
+        return wins[entrant];
+    }
+
+    public synchronized long getWins(int entrant, int opponent) {
+        return pairWins[entrant][opponent];
+    }
+
+    public synchronized long getDraws() {
+        return draws;
+    }
+
+    public synchronized double getWinRate(int entrant) {
+        return games[entrant] == 0 ? 0 : (double) wins[entrant] / games[entrant];
+    }
+
+    public synchronized double getMeanShotsToWin(int entrant) {
+        return wins[entrant] == 0 ? 0 : (double) winShots[entrant] / wins[entrant];
+    }
+
+    public synchronized double getShotsToWinInterval(int entrant) {
+        long n = wins[entrant];
+        if (n < 2) return 0;
+        double mean = (double) winShots[entrant] / n;
+        double variance = (winShotsSquared[entrant] - n * mean * mean) / (n - 1);
+        return 1.96 * Math.sqrt(Math.max(variance, 0) / n);
+    }
+
+    public synchronized double[] getElo() {
+        int n = games.length;
+        double[] strength = new double[n];
+        Arrays.fill(strength, 1);
+        for (int iteration = 0; iteration < ELO_ITERATIONS; iteration++) {
+            double logSum = 0;
+            for (int i = 0; i < n; i++) {
+                double won = 0;
+                double expected = 0;
+                for (int j = 0; j < n; j++) {
+                    if (i == j) continue;
+                    double played = pairWins[i][j] + pairWins[j][i] + 1;
+                    won += pairWins[i][j] + 0.5;
+                    expected += played / (strength[i] + strength[j]);
+                }
+                strength[i] = expected == 0 ? 1 : won / expected;
+                logSum += Math.log(strength[i]);
+            }
+            double scale = Math.exp(logSum / n);
+            for (int i = 0; i < n; i++) strength[i] /= scale;
+        }
+        double[] elo = new double[n];
+        for (int i = 0; i < n; i++) elo[i] = 1500 + 400 * Math.log10(strength[i]);
+        return elo;
+    }
+
+    public synchronized String report() {
+        StringBuilder sb = new StringBuilder();
+        double[] elo = getElo();
+        sb.append(String.format("%-16s %8s %8s %18s %7s%n", "entrant", "games", "win %", "shots to win", "elo"));
+        for (int i = 0; i < games.length; i++) {
+            sb.append(String.format("%-16s %8d %7.1f%% %10.2f +/- %4.2f %7.0f%n", entrants.get(i).name(), games[i],
+                    100 * getWinRate(i), getMeanShotsToWin(i), getShotsToWinInterval(i), elo[i]));
+        }
+        if (draws > 0) sb.append(draws).append(" draws\n");
+        return sb.toString();
+    }
+}
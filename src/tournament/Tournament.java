@@ -0,0 +1,236 @@
+package tournament;
+
+import ai.BookTargeter;
+import ai.DensityTargeter;
+import ai.EndgameSolver;
+import ai.EndgameTargeter;
+import ai.MonteCarloTargeter;
+import ai.MoveScheduler;
+import ai.OpeningBook;
+import ai.RandomTargeter;
+import ai.TargetingStrategy;
+import engine.GameEngine;
+import enums.ShotResult;
+import metrics.SchedulerMetrics;
+import objects.Map;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+public class Tournament {
+    public static final String CSV_HEADER = "first,second,game,seed,winner,shots,turns";
+
+    private static final int CHUNK = 250;
+    private static final int MAX_TURNS = 2 * Map.CELLS;
+    private static final int MAX_RETRIES = Map.CELLS;
+
+    private final List<Entrant> entrants;
+    private final int gamesPerPairing;
+    private final long seed;
+    private final ForkJoinPool pool;
+    private final Writer csv;
+    private final Standings standings;
+
+    public record Outcome(int winner, int shots, int turns) {
+    }
+
+    public Tournament(List<Entrant> entrants, int gamesPerPairing, long seed, ForkJoinPool pool, Writer csv) {
+        this.entrants = entrants;
+        this.gamesPerPairing = gamesPerPairing;
+        this.seed = seed;
+        this.pool = pool;
+        this.csv = csv;
+        standings = new Standings(entrants);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int games = 1000;
+        long seed = 1;
+        int samples = 0;
+        long moveTime = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path csvPath = Path.of("tournament.csv");
+        Path bookPath = null;
+        Path layoutsPath = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--samples" -> samples = Integer.parseInt(args[++i]);
+                case "--move-time" -> moveTime = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--csv" -> csvPath = Path.of(args[++i]);
+                case "--book" -> bookPath = Path.of(args[++i]);
+                case "--layouts" -> layoutsPath = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<Entrant> entrants = new ArrayList<>();
+        entrants.add(new Entrant("random", s -> new RandomTargeter(new SplittableRandom(s)), new RandomPlacement()));
+        entrants.add(new Entrant("density", s -> new DensityTargeter(), new RandomPlacement()));
+        ThreadLocal<EndgameSolver> solvers = ThreadLocal.withInitial(EndgameSolver::new);
+        entrants.add(new Entrant("endgame", s -> new EndgameTargeter(solvers.get()), new RandomPlacement()));
+        entrants.add(new Entrant("density-edge", s -> new DensityTargeter(), new EdgePlacement()));
+        if (layoutsPath != null) {
+            LibraryPlacement placement = new LibraryPlacement(LayoutLibrary.load(layoutsPath));
+            entrants.add(new Entrant("density-layouts", s -> new DensityTargeter(), placement));
+        }
+        if (samples > 0) {
+            int montecarloSamples = samples;
+            entrants.add(new Entrant("montecarlo", s -> new MonteCarloTargeter(montecarloSamples, pool, s), new RandomPlacement()));
+        }
+        SchedulerMetrics schedulerMetrics = new SchedulerMetrics();
+        if (moveTime > 0) {
+            int timedSamples = samples > 0 ? samples : Integer.MAX_VALUE;
+            long budget = TimeUnit.MILLISECONDS.toNanos(moveTime);
+            entrants.add(new Entrant("montecarlo-timed", s -> new MoveScheduler(
+                    new MonteCarloTargeter(timedSamples, pool, s), MoveScheduler.workers(), budget,
+                    MoveScheduler.DEFAULT_PONDER_NANOS, schedulerMetrics), new RandomPlacement()));
+        }
+        if (bookPath != null) {
+            OpeningBook book = new OpeningBook(bookPath);
+            if (samples > 0) {
+                int montecarloSamples = samples;
+                entrants.add(new Entrant("montecarlo-book", s -> new BookTargeter(book,
+                        new MonteCarloTargeter(montecarloSamples, pool, s)), new RandomPlacement()));
+            } else {
+                entrants.add(new Entrant("density-book", s -> new BookTargeter(book, new DensityTargeter()),
+                        new RandomPlacement()));
+            }
+        }
+        long start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(csvPath)) {
+            Standings standings = new Tournament(entrants, games, seed, pool, writer).run();
+            System.out.print(standings.report());
+        }
+        if (moveTime > 0) schedulerMetrics.report(System.out);
+        pool.shutdown();
+        System.out.printf("%.2f s, results in %s%n", (System.nanoTime() - start) / 1e9, csvPath);
+    }
+
+    public Standings run() throws IOException {
+        if (csv != null) csv.write(CSV_HEADER + "\n");
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int a = 0; a < entrants.size(); a++) {
+            for (int b = a + 1; b < entrants.size(); b++) {
+                for (int from = 0; from < gamesPerPairing; from += CHUNK) {
+                    int first = a;
+                    int second = b;
+                    int start = from;
+                    int end = Math.min(from + CHUNK, gamesPerPairing);
+                    tasks.add(pool.submit(() -> playChunk(first, second, start, end)));
+                }
+            }
+        }
+        try {
+            for (ForkJoinTask<?> task : tasks) task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (csv != null) csv.flush();
+        return standings;
+    }
+
+    public Standings getStandings() {
+        return standings;
+    }
+
+    public long gameSeed(int a, int b, int game) {
+        return mix(seed ^ mix(((long) a << 48 | (long) b << 32) + game));
+    }
+
+    public static Outcome play(Entrant first, Entrant second, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GameEngine engine = new GameEngine();
+        first.placement().place(engine, engine.getPlayer(1), random.split());
+        second.placement().place(engine, engine.getPlayer(2), random.split());
+        TargetingStrategy[] targeters = {null, first.targeting().apply(random.nextLong()),
+                second.targeting().apply(random.nextLong())};
+        try {
+            return play(engine, targeters);
+        } finally {
+            for (TargetingStrategy targeter : targeters) {
+                if (targeter instanceof AutoCloseable closeable) close(closeable);
+            }
+        }
+    }
+
+    private static Outcome play(GameEngine engine, TargetingStrategy[] targeters) {
+        int[] shots = new int[3];
+        for (int turns = 1; turns <= MAX_TURNS; turns++) {
+            int turn = engine.getTurn();
+            TargetingStrategy targeter = targeters[turn];
+            Map map = engine.getCurrentPlayer().getMap();
+            ShotResult result = ShotResult.INVALID;
+            int cell = -1;
+            for (int retry = 0; retry < MAX_RETRIES; retry++) {
+                cell = targeter.nextShot(map);
+                if (cell < 0) break;
+                result = engine.shoot(Map.cellX(cell) + 1, Map.cellY(cell) + 1);
+                if (result != ShotResult.ALREADY_ATTACKED) break;
+            }
+            if (result == ShotResult.INVALID || result == ShotResult.ALREADY_ATTACKED) {
+                return new Outcome(3 - turn, shots[3 - turn], turns);
+            }
+            targeter.onShot(map, cell, result, engine.getLastShipType());
+            shots[turn]++;
+            if (result == ShotResult.WIN) return new Outcome(turn, shots[turn], turns);
+            engine.changeTurn();
+        }
+        return new Outcome(0, 0, MAX_TURNS);
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void playChunk(int a, int b, int from, int to) {
+        Standings local = new Standings(entrants);
+        StringBuilder rows = new StringBuilder();
+        for (int game = from; game < to; game++) {
+            long gameSeed = gameSeed(a, b, game);
+            boolean swap = (game & 1) == 1;
+            int first = swap ? b : a;
+            int second = swap ? a : b;
+            Outcome outcome = play(entrants.get(first), entrants.get(second), gameSeed);
+            int winner = outcome.winner() == 0 ? -1 : outcome.winner() == 1 ? first : second;
+            local.record(a, b, winner, outcome.shots());
+            rows.append(entrants.get(first).name()).append(',')
+                    .append(entrants.get(second).name()).append(',')
+                    .append(game).append(',')
+                    .append(gameSeed).append(',')
+                    .append(winner < 0 ? "" : entrants.get(winner).name()).append(',')
+                    .append(outcome.shots()).append(',')
+                    .append(outcome.turns()).append('\n');
+        }
+        standings.merge(local);
+        if (csv == null) return;
+        synchronized (csv) {
+            try {
+                csv.write(rows.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}